@@ -137,7 +137,7 @@ public abstract class PlatformCommand<C> {
             return CompletableFuture.completedFuture(new ArrayList<>());
         }
 
-        return CompletableFuture.supplyAsync(ArrayList::new, UtilConcurrency.SCHEDULED_EXECUTOR_SERVICE)
+        return CompletableFuture.supplyAsync(ArrayList::new, UtilConcurrency.getCPUPool())
                 .thenCompose(ignore -> {
                     if (args.length > 0) {
                         for (PlatformCommand<C> subCommand : this.subCommands) {
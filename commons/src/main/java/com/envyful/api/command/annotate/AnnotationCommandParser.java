@@ -335,7 +335,7 @@ public class AnnotationCommandParser<A extends PlatformCommand<B>, B> implements
                 TabCompleteAnnotations<?> data = tabCompleter.get(currentPosition);
 
                 return CompletableFuture.supplyAsync(() -> data.getCompletions(sender, args, data.annotations.toArray(new Annotation[0])),
-                                UtilConcurrency.SCHEDULED_EXECUTOR_SERVICE)
+                                UtilConcurrency.getCPUPool())
                         .exceptionally(throwable -> {
                             UtilLogger.getLogger().error("Error when handling tab completions", throwable);
                             return new ArrayList<>();
@@ -352,7 +352,7 @@ public class AnnotationCommandParser<A extends PlatformCommand<B>, B> implements
                         } catch (IllegalAccessException | InvocationTargetException e) {
                             throw new RuntimeException("Error when executing tab handler method " + tabHandlerMethod.getName() + " in class " + commandInstance.getClass().getName(), e);
                         }
-                    }, UtilConcurrency.SCHEDULED_EXECUTOR_SERVICE)
+                    }, UtilConcurrency.getCPUPool())
                     .exceptionally(throwable -> {
                         UtilLogger.getLogger().error("Error when handling tab completions", throwable);
                         return new ArrayList<>();
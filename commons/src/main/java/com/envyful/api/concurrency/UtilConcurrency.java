@@ -1,7 +1,9 @@
 package com.envyful.api.concurrency;
 
+import com.envyful.api.concurrency.pool.ExecutorPool;
 import com.envyful.api.type.ExceptionThrowingSupplier;
 
+import java.util.List;
 import java.util.concurrent.*;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -20,6 +22,12 @@ import java.util.function.Supplier;
  * `envyware.concurrency.threads` to the number of threads you want to use. The
  * default is 5.
  *
+ * Blocking work (database queries, HTTP requests, file access) should use the IO pool and
+ * computation (tab completion, parsing) the CPU pool, so one slow query cannot hold up everything
+ * else. Their sizes are set with `envyware.concurrency.io.threads` (default 8) and
+ * `envyware.concurrency.cpu.threads` (default the number of processors), and each mod can replace
+ * them with {@link #setIOPool(ExecutorPool)} and {@link #setCPUPool(ExecutorPool)}
+ *
  */
 public class UtilConcurrency {
 
@@ -35,6 +43,132 @@ public class UtilConcurrency {
                     )
                     .build());
 
+    public static final int IO_THREADS = Integer.parseInt(System.getProperty("envyware.concurrency.io.threads", "8"));
+    public static final int CPU_THREADS = Integer.parseInt(System.getProperty("envyware.concurrency.cpu.threads",
+            String.valueOf(Runtime.getRuntime().availableProcessors())));
+
+    private static final ExecutorPool SCHEDULING_POOL = ExecutorPool.of("scheduling", SCHEDULED_EXECUTOR_SERVICE);
+
+    private static volatile ExecutorPool ioPool = ExecutorPool.builder("io").threads(IO_THREADS).build();
+    private static volatile ExecutorPool cpuPool = ExecutorPool.builder("cpu").threads(CPU_THREADS).build();
+
+    /**
+     *
+     * Gets the pool for blocking work such as database queries, HTTP requests and file access
+     *
+     * @return The IO pool
+     */
+    public static ExecutorPool getIOPool() {
+        return ioPool;
+    }
+
+    /**
+     *
+     * Replaces the IO pool. The previous pool finishes the tasks already submitted to it and then shuts down
+     *
+     * @param pool The new pool
+     */
+    public static void setIOPool(ExecutorPool pool) {
+        var previous = ioPool;
+        ioPool = pool;
+
+        if (previous != pool) {
+            previous.shutdown();
+        }
+    }
+
+    /**
+     *
+     * Gets the pool for non-blocking computation such as tab completion
+     *
+     * @return The CPU pool
+     */
+    public static ExecutorPool getCPUPool() {
+        return cpuPool;
+    }
+
+    /**
+     *
+     * Replaces the CPU pool. The previous pool finishes the tasks already submitted to it and then shuts down
+     *
+     * @param pool The new pool
+     */
+    public static void setCPUPool(ExecutorPool pool) {
+        var previous = cpuPool;
+        cpuPool = pool;
+
+        if (previous != pool) {
+            previous.shutdown();
+        }
+    }
+
+    /**
+     *
+     * Gets the pool measuring the {@link #SCHEDULED_EXECUTOR_SERVICE}
+     *
+     * @return The scheduling pool
+     */
+    public static ExecutorPool getSchedulingPool() {
+        return SCHEDULING_POOL;
+    }
+
+    /**
+     *
+     * Gets the IO, CPU and scheduling pools, for reporting their gauges
+     *
+     * @return The pools
+     */
+    public static List<ExecutorPool> getPools() {
+        return List.of(ioPool, cpuPool, SCHEDULING_POOL);
+    }
+
+    /**
+     *
+     * Runs the blocking task on the {@link #getIOPool()}
+     *
+     * @param runnable The runnable to execute asynchronously
+     * @return The future
+     */
+    public static CompletableFuture<Void> runIO(Runnable runnable) {
+        return CompletableFuture.runAsync(runnable, ioPool)
+                .exceptionally(throwable -> {
+                    UtilLogger.getLogger().error("Error while executing IO task", throwable);
+                    return null;
+                });
+    }
+
+    /**
+     *
+     * Runs the blocking supplier on the {@link #getIOPool()}
+     *
+     * @param supplier The supplier
+     * @return The future
+     * @param <T> The type to return
+     */
+    public static <T> CompletableFuture<T> supplyIO(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, ioPool)
+                .exceptionally(throwable -> {
+                    UtilLogger.getLogger().error("Error while executing IO task", throwable);
+                    return null;
+                });
+    }
+
+    /**
+     *
+     * Runs the supplier on the {@link #getCPUPool()}
+     *
+     * @param supplier The supplier
+     * @return The future
+     * @param <T> The type to return
+     */
+    public static <T> CompletableFuture<T> supplyCPU(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, cpuPool)
+                .exceptionally(throwable -> {
+                    UtilLogger.getLogger().error("Error while executing CPU task", throwable);
+                    return null;
+                });
+    }
+
     /**
      *
      * Runs a task asynchronously using the {@link UtilConcurrency#SCHEDULED_EXECUTOR_SERVICE}
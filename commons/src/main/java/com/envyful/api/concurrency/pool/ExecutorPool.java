@@ -0,0 +1,215 @@
+package com.envyful.api.concurrency.pool;
+
+import com.envyful.api.concurrency.ThreadFactoryBuilder;
+import com.envyful.api.concurrency.UtilLogger;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *
+ * A named executor that measures the work passed through it
+ * <br>
+ * Tasks passed to {@link #execute(Runnable)} are counted while they wait to start and while they run,
+ * and the time each one spent waiting is recorded, so the queue depth, active threads and task latency
+ * of the pool can be read no matter which executor backs it. When backed by a {@link ThreadPoolExecutor}
+ * the queue depth and active threads come from the executor, so include tasks submitted to it directly
+ *
+ */
+public class ExecutorPool implements Executor {
+
+    private final String name;
+    private final ExecutorService executor;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder totalLatency = new LongAdder();
+    private final LongAccumulator maxLatency = new LongAccumulator(Math::max, 0);
+
+    private ExecutorPool(String name, ExecutorService executor) {
+        this.name = name;
+        this.executor = executor;
+    }
+
+    @Override
+    public void execute(Runnable runnable) {
+        var submitted = System.nanoTime();
+
+        this.queued.incrementAndGet();
+
+        try {
+            this.executor.execute(() -> {
+                var latency = System.nanoTime() - submitted;
+
+                this.queued.decrementAndGet();
+                this.active.incrementAndGet();
+                this.started.increment();
+                this.totalLatency.add(latency);
+                this.maxLatency.accumulate(latency);
+
+                try {
+                    runnable.run();
+                } finally {
+                    this.active.decrementAndGet();
+                }
+            });
+        } catch (RuntimeException e) {
+            this.queued.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     *
+     * Gets the name of the pool
+     *
+     * @return The name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     *
+     * Gets the executor backing this pool. Tasks passed straight to it are not measured
+     *
+     * @return The executor
+     */
+    public ExecutorService getExecutor() {
+        return this.executor;
+    }
+
+    /**
+     *
+     * Gets the number of tasks waiting to start
+     *
+     * @return The queue depth
+     */
+    public int getQueueDepth() {
+        if (this.executor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) this.executor).getQueue().size();
+        }
+
+        return this.queued.get();
+    }
+
+    /**
+     *
+     * Gets the number of tasks currently running
+     *
+     * @return The active thread count
+     */
+    public int getActiveThreads() {
+        if (this.executor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) this.executor).getActiveCount();
+        }
+
+        return this.active.get();
+    }
+
+    /**
+     *
+     * Gets the number of tasks that have started running
+     *
+     * @return The task count
+     */
+    public long getStartedTasks() {
+        return this.started.sum();
+    }
+
+    /**
+     *
+     * Gets the average time tasks waited between being submitted and starting to run
+     *
+     * @return The latency in nanoseconds
+     */
+    public long getAverageLatency() {
+        var started = this.started.sum();
+        return started == 0 ? 0 : this.totalLatency.sum() / started;
+    }
+
+    /**
+     *
+     * Gets the longest time a task waited between being submitted and starting to run
+     *
+     * @return The latency in nanoseconds
+     */
+    public long getMaxLatency() {
+        return this.maxLatency.get();
+    }
+
+    /**
+     *
+     * Stops the pool accepting new tasks, letting the tasks already submitted finish
+     *
+     */
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+
+    /**
+     *
+     * Creates a pool measuring the given executor
+     *
+     * @param name The name of the pool
+     * @param executor The executor
+     * @return The pool
+     */
+    public static ExecutorPool of(String name, ExecutorService executor) {
+        return new ExecutorPool(name, executor);
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    public static class Builder {
+
+        private final String name;
+
+        private int threads = 1;
+        private long keepAlive = TimeUnit.SECONDS.toMillis(60);
+
+        Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder threads(int threads) {
+            this.threads = threads;
+            return this;
+        }
+
+        public Builder keepAlive(long keepAlive, TimeUnit timeUnit) {
+            this.keepAlive = timeUnit.toMillis(keepAlive);
+            return this;
+        }
+
+        /**
+         *
+         * Creates a pool with a fixed number of daemon threads, which stop after being idle for
+         * the keep alive time and are started again as work arrives
+         *
+         * @return The pool
+         */
+        public ExecutorPool build() {
+            var executor = new ThreadPoolExecutor(this.threads, this.threads, this.keepAlive, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(),
+                    new ThreadFactoryBuilder()
+                            .setDaemon(true)
+                            .setNameFormat("envyware_" + this.name + "_%d")
+                            .setUncaughtExceptionHandler(
+                                    (t, e) -> UtilLogger.getLogger().error("Error while executing " + this.name + " task", e)
+                            )
+                            .build());
+
+            executor.allowCoreThreadTimeOut(true);
+            return new ExecutorPool(this.name, executor);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.envyful.api.concurrency.tick;
+
+/**
+ *
+ * The priority classes of tasks passed to the main thread through a {@link SyncTaskQueue}
+ *
+ */
+public enum SyncPriority {
+
+    /**
+     * Work a player is waiting on, such as opening a GUI or responding to a click or command
+     */
+    PLAYER,
+    /**
+     * Work nobody is directly waiting on, such as reward payouts and periodic updates
+     */
+    BACKGROUND,
+
+}
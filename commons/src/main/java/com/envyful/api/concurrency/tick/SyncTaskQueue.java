@@ -0,0 +1,228 @@
+package com.envyful.api.concurrency.tick;
+
+import com.envyful.api.concurrency.UtilLogger;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ *
+ * A queue of tasks to run on the main thread, drained by calling {@link #drain()} once per tick
+ * <br>
+ * Each tick only spends up to the configured time budget running tasks, with
+ * {@link SyncPriority#PLAYER} tasks run before {@link SyncPriority#BACKGROUND} ones. Tasks that don't
+ * fit in the budget are deferred to later ticks in the order they were submitted. At least one task
+ * of each priority runs every tick so neither can be starved
+ * <br>
+ * The default budget can be set with the system property `envyware.sync.budget`, in milliseconds
+ *
+ */
+public class SyncTaskQueue {
+
+    private static final long DEFAULT_BUDGET = Long.parseLong(System.getProperty("envyware.sync.budget", "10"));
+
+    private static final SyncPriority[] PRIORITIES = SyncPriority.values();
+
+    private final Queue<Runnable>[] queues;
+    private final AtomicInteger[] depths;
+    private final LongSupplier ticker;
+    private final LongAdder tasksRun = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder deferredTicks = new LongAdder();
+
+    private volatile long tickBudget;
+    private volatile long lastTickNanos;
+
+    @SuppressWarnings("unchecked")
+    private SyncTaskQueue(Builder builder) {
+        this.queues = new Queue[PRIORITIES.length];
+        this.depths = new AtomicInteger[PRIORITIES.length];
+        this.tickBudget = builder.tickBudget;
+        this.ticker = builder.ticker;
+
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            this.queues[i] = new ConcurrentLinkedQueue<>();
+            this.depths[i] = new AtomicInteger();
+        }
+    }
+
+    /**
+     *
+     * Adds the task to be run on a later tick
+     *
+     * @param runnable The task
+     * @param priority The priority of the task
+     */
+    public void submit(Runnable runnable, SyncPriority priority) {
+        this.depths[priority.ordinal()].incrementAndGet();
+        this.queues[priority.ordinal()].add(runnable);
+    }
+
+    /**
+     *
+     * Runs queued tasks, highest priority first, until the tick budget has been spent
+     *
+     */
+    public void drain() {
+        var start = this.ticker.getAsLong();
+        var deferred = false;
+
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            var ran = 0;
+            Runnable task;
+
+            while (!(ran > 0 && (this.ticker.getAsLong() - start) >= this.tickBudget)
+                    && (task = this.queues[i].poll()) != null) {
+                this.depths[i].decrementAndGet();
+                this.run(task);
+                ran++;
+            }
+
+            deferred |= !this.queues[i].isEmpty();
+        }
+
+        var elapsed = this.ticker.getAsLong() - start;
+
+        this.lastTickNanos = elapsed;
+        this.totalNanos.add(elapsed);
+
+        if (deferred) {
+            this.deferredTicks.increment();
+        }
+    }
+
+    private void run(Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable e) {
+            UtilLogger.getLogger().error("Error while executing sync task", e);
+        }
+
+        this.tasksRun.increment();
+    }
+
+    /**
+     *
+     * Sets the time each tick may spend running tasks
+     *
+     * @param tickBudget The budget
+     * @param timeUnit The unit of the budget
+     */
+    public void setTickBudget(long tickBudget, TimeUnit timeUnit) {
+        this.tickBudget = timeUnit.toNanos(tickBudget);
+    }
+
+    /**
+     *
+     * Gets the time each tick may spend running tasks
+     *
+     * @return The budget in nanoseconds
+     */
+    public long getTickBudget() {
+        return this.tickBudget;
+    }
+
+    /**
+     *
+     * Gets the number of tasks of the priority waiting to run
+     *
+     * @param priority The priority
+     * @return The queue depth
+     */
+    public int getQueueDepth(SyncPriority priority) {
+        return this.depths[priority.ordinal()].get();
+    }
+
+    /**
+     *
+     * Gets the number of tasks of any priority waiting to run
+     *
+     * @return The queue depth
+     */
+    public int getQueueDepth() {
+        var depth = 0;
+
+        for (var count : this.depths) {
+            depth += count.get();
+        }
+
+        return depth;
+    }
+
+    /**
+     *
+     * Gets the number of tasks that have been run
+     *
+     * @return The task count
+     */
+    public long getTasksRun() {
+        return this.tasksRun.sum();
+    }
+
+    /**
+     *
+     * Gets the total time spent running tasks
+     *
+     * @return The time in nanoseconds
+     */
+    public long getTotalNanos() {
+        return this.totalNanos.sum();
+    }
+
+    /**
+     *
+     * Gets the time spent running tasks on the last tick
+     *
+     * @return The time in nanoseconds
+     */
+    public long getLastTickNanos() {
+        return this.lastTickNanos;
+    }
+
+    /**
+     *
+     * Gets the number of ticks that ran out of budget and deferred tasks to a later tick
+     *
+     * @return The tick count
+     */
+    public long getDeferredTicks() {
+        return this.deferredTicks.sum();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private long tickBudget = TimeUnit.MILLISECONDS.toNanos(DEFAULT_BUDGET);
+        private LongSupplier ticker = System::nanoTime;
+
+        Builder() {}
+
+        public Builder tickBudget(long tickBudget, TimeUnit timeUnit) {
+            this.tickBudget = timeUnit.toNanos(tickBudget);
+            return this;
+        }
+
+        /**
+         *
+         * Sets the source of time, in nanoseconds, used to measure the tick budget
+         *
+         * @param ticker The ticker
+         * @return The builder
+         */
+        public Builder ticker(LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        public SyncTaskQueue build() {
+            return new SyncTaskQueue(this);
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.envyful.api.concurrency.tick;
+
+import com.envyful.api.concurrency.UtilLogger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ *
+ * Runs tasks on the server thread a number of ticks after they're scheduled, driven by calling
+ * {@link #tick()} once per server tick
+ * <br>
+ * Delayed tasks are held in a hashed timing wheel so scheduling and cancelling are O(1) no matter
+ * how long the delay, and a delayed task is only looked at on the tick its slot comes round.
+ * Tasks that become due on the same tick run in the order they were scheduled
+ * <br>
+ * Each tick only spends up to the configured time budget running tasks. Tasks that don't fit
+ * are left at the front of the queue for the next tick, so a burst of work is spread across
+ * ticks rather than stalling one. At least one task runs every tick so work is never starved
+ * <br>
+ * Tasks can be scheduled from any thread, but {@link #tick()} must only be called from one
+ *
+ */
+public class TickScheduler {
+
+    private final TickTask[] heads;
+    private final TickTask[] tails;
+    private final int mask;
+    private final long tickBudget;
+    private final LongSupplier ticker;
+    private final Queue<TickTask> incoming = new ConcurrentLinkedQueue<>();
+    private final ArrayDeque<TickTask> ready = new ArrayDeque<>();
+    private final List<TickTask> due = new ArrayList<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private volatile long currentTick = 0;
+    private volatile int spilled = 0;
+
+    private TickScheduler(Builder builder) {
+        var wheelSize = Integer.highestOneBit(Math.max(2, builder.wheelSize - 1)) << 1;
+
+        this.heads = new TickTask[wheelSize];
+        this.tails = new TickTask[wheelSize];
+        this.mask = wheelSize - 1;
+        this.tickBudget = builder.tickBudget;
+        this.ticker = builder.ticker;
+    }
+
+    /**
+     *
+     * Schedules the runnable to run the given number of ticks from now.
+     * A delay of zero or one runs it on the next tick
+     *
+     * @param runnable The runnable
+     * @param delay The delay in ticks
+     * @return The handle for the task
+     */
+    public TickTask schedule(Runnable runnable, int delay) {
+        return this.submit(new TickTask(runnable, delay, null));
+    }
+
+    /**
+     *
+     * Schedules the runnable to run once the predicate returns true, testing it every tick
+     * starting the given number of ticks from now
+     *
+     * @param predicate The predicate to test
+     * @param runnable The runnable
+     * @param delay The delay in ticks before the first test
+     * @return The handle for the task
+     */
+    public TickTask scheduleWhen(Predicate<Runnable> predicate, Runnable runnable, int delay) {
+        return this.submit(new TickTask(runnable, delay, predicate));
+    }
+
+    private TickTask submit(TickTask task) {
+        this.pending.incrementAndGet();
+        task.sequence = this.sequence.getAndIncrement();
+        this.incoming.add(task);
+        return task;
+    }
+
+    /**
+     *
+     * Advances the scheduler by one tick and runs the tasks that are due, within the tick budget
+     *
+     */
+    public void tick() {
+        var tick = this.currentTick + 1;
+        this.currentTick = tick;
+
+        this.expireBucket(tick);
+        this.drainIncoming(tick);
+
+        // Tasks from the wheel and newly submitted tasks can become due on the same tick, so put them back in
+        // the order they were scheduled. Tasks left over from the last tick stay at the front
+        if (this.due.size() > 1) {
+            this.due.sort(Comparator.comparingLong(task -> task.sequence));
+        }
+
+        this.ready.addAll(this.due);
+        this.due.clear();
+        this.runReady(tick);
+    }
+
+    private void drainIncoming(long tick) {
+        TickTask task;
+
+        while ((task = this.incoming.poll()) != null) {
+            if (task.getState() != TickTask.State.SCHEDULED) {
+                this.pending.decrementAndGet();
+                continue;
+            }
+
+            var dueTick = tick + Math.max(0, task.getDelay() - 1);
+
+            if (dueTick == tick) {
+                this.due.add(task);
+            } else {
+                this.addToWheel(task, dueTick);
+            }
+        }
+    }
+
+    private void addToWheel(TickTask task, long dueTick) {
+        var bucket = (int) (dueTick & this.mask);
+
+        task.dueTick = dueTick;
+        task.next = null;
+
+        if (this.tails[bucket] == null) {
+            this.heads[bucket] = task;
+        } else {
+            this.tails[bucket].next = task;
+        }
+
+        this.tails[bucket] = task;
+    }
+
+    private void expireBucket(long tick) {
+        var bucket = (int) (tick & this.mask);
+        TickTask previous = null;
+        var current = this.heads[bucket];
+
+        while (current != null) {
+            var next = current.next;
+            var cancelled = current.getState() != TickTask.State.SCHEDULED;
+
+            if (cancelled || current.dueTick <= tick) {
+                if (previous == null) {
+                    this.heads[bucket] = next;
+                } else {
+                    previous.next = next;
+                }
+
+                if (next == null) {
+                    this.tails[bucket] = previous;
+                }
+
+                current.next = null;
+
+                if (cancelled) {
+                    this.pending.decrementAndGet();
+                } else {
+                    this.due.add(current);
+                }
+            } else {
+                previous = current;
+            }
+
+            current = next;
+        }
+    }
+
+    private void runReady(long tick) {
+        var start = this.ticker.getAsLong();
+        var ran = 0;
+        TickTask task;
+
+        while ((task = this.ready.peek()) != null) {
+            if (ran > 0 && (this.ticker.getAsLong() - start) >= this.tickBudget) {
+                break;
+            }
+
+            this.ready.poll();
+
+            if (task.condition != null && task.getState() == TickTask.State.SCHEDULED && !this.test(task)) {
+                this.addToWheel(task, tick + 1);
+                ran++;
+                continue;
+            }
+
+            this.pending.decrementAndGet();
+
+            if (!task.transition(TickTask.State.SCHEDULED, TickTask.State.RUNNING)) {
+                continue;
+            }
+
+            try {
+                task.getRunnable().run();
+                task.setState(TickTask.State.COMPLETED);
+            } catch (Throwable e) {
+                task.setState(TickTask.State.FAILED);
+                UtilLogger.getLogger().error("Error while executing tick task", e);
+            }
+
+            ran++;
+        }
+
+        this.spilled = this.ready.size();
+    }
+
+    private boolean test(TickTask task) {
+        try {
+            if (!task.condition.test(task.getRunnable())) {
+                return false;
+            }
+        } catch (Throwable e) {
+            UtilLogger.getLogger().error("Error while testing tick task condition", e);
+            return false;
+        }
+
+        task.condition = null;
+        return true;
+    }
+
+    /**
+     *
+     * Gets the number of ticks this scheduler has processed
+     *
+     * @return The current tick
+     */
+    public long getCurrentTick() {
+        return this.currentTick;
+    }
+
+    /**
+     *
+     * Gets the number of tasks that are scheduled but have not run yet
+     *
+     * @return The pending task count
+     */
+    public int getPendingCount() {
+        return this.pending.get();
+    }
+
+    /**
+     *
+     * Gets the number of due tasks that did not fit in the last tick's budget and were left for the next tick
+     *
+     * @return The spilled task count
+     */
+    public int getSpilledCount() {
+        return this.spilled;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private int wheelSize = 512;
+        private long tickBudget = TimeUnit.MILLISECONDS.toNanos(25);
+        private LongSupplier ticker = System::nanoTime;
+
+        Builder() {}
+
+        /**
+         *
+         * Sets the number of slots in the wheel, rounded up to a power of two. Delays longer than
+         * the wheel wrap round it, so this only needs to cover the common delays
+         *
+         * @param wheelSize The number of slots
+         * @return The builder
+         */
+        public Builder wheelSize(int wheelSize) {
+            this.wheelSize = wheelSize;
+            return this;
+        }
+
+        public Builder tickBudget(long tickBudget, TimeUnit timeUnit) {
+            this.tickBudget = timeUnit.toNanos(tickBudget);
+            return this;
+        }
+
+        /**
+         *
+         * Sets the source of time, in nanoseconds, used to measure the tick budget
+         *
+         * @param ticker The ticker
+         * @return The builder
+         */
+        public Builder ticker(LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        public TickScheduler build() {
+            return new TickScheduler(this);
+        }
+    }
+}
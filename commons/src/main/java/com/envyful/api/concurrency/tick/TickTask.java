@@ -0,0 +1,84 @@
+package com.envyful.api.concurrency.tick;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+/**
+ *
+ * A handle to a task scheduled on a {@link TickScheduler}
+ *
+ */
+public class TickTask {
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.SCHEDULED);
+    private final Runnable runnable;
+    private final int delay;
+
+    Predicate<Runnable> condition;
+    long sequence;
+    long dueTick;
+    TickTask next;
+
+    TickTask(Runnable runnable, int delay, Predicate<Runnable> condition) {
+        this.runnable = runnable;
+        this.delay = delay;
+        this.condition = condition;
+    }
+
+    /**
+     *
+     * Gets the current state of the task
+     *
+     * @return The state
+     */
+    public State getState() {
+        return this.state.get();
+    }
+
+    /**
+     *
+     * Checks if the task has finished running, failed or been cancelled
+     *
+     * @return True if done
+     */
+    public boolean isDone() {
+        var state = this.state.get();
+        return state != State.SCHEDULED && state != State.RUNNING;
+    }
+
+    /**
+     *
+     * Cancels the task if it hasn't started running yet
+     *
+     * @return True if the task was cancelled
+     */
+    public boolean cancel() {
+        return this.state.compareAndSet(State.SCHEDULED, State.CANCELLED);
+    }
+
+    Runnable getRunnable() {
+        return this.runnable;
+    }
+
+    int getDelay() {
+        return this.delay;
+    }
+
+    boolean transition(State from, State to) {
+        return this.state.compareAndSet(from, to);
+    }
+
+    void setState(State state) {
+        this.state.set(state);
+    }
+
+    public enum State {
+
+        SCHEDULED,
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        CANCELLED,
+
+    }
+}
@@ -1,10 +1,12 @@
 package com.envyful.api.config.type;
 
 import com.envyful.api.math.RandomWeightedSet;
+import com.envyful.api.math.WeightedAliasTable;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
 import java.io.Serializable;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -17,7 +19,8 @@ import java.util.Map;
 public class ConfigRandomWeightedSet<A> implements Serializable {
 
     private Map<String, WeightedObject<A>> entries = new HashMap<>();
-    private transient RandomWeightedSet<A> weightedSet = null;
+    private transient volatile RandomWeightedSet<A> weightedSet = null;
+    private transient volatile WeightedAliasTable<A> sampler = null;
 
     public ConfigRandomWeightedSet(Map<String, WeightedObject<A>> entries) {
         this.entries = entries;
@@ -37,22 +40,62 @@ public class ConfigRandomWeightedSet<A> implements Serializable {
     public void add(WeightedObject<A> entry) {
         this.entries.put(String.valueOf(this.entries.size()), entry);
         this.weightedSet = null;
+        this.sampler = null;
     }
 
     public RandomWeightedSet<A> getWeightedSet() {
-        if (this.weightedSet == null) {
-            this.weightedSet = new RandomWeightedSet<>();
+        var weightedSet = this.weightedSet;
+
+        if (weightedSet == null) {
+            weightedSet = new RandomWeightedSet<>();
 
             for (WeightedObject<A> value : this.entries.values()) {
-                this.weightedSet.add(value.getObject(), value.weight);
+                weightedSet.add(value.getObject(), value.weight);
             }
+
+            this.weightedSet = weightedSet;
         }
 
-        return this.weightedSet;
+        return weightedSet;
+    }
+
+    /**
+     *
+     * Gets the immutable table random draws are made from, building it on first use. As the table
+     * is never modified once published, draws are safe to make from any thread without locking.
+     * Entries for the same object share a single slot with their weights summed
+     *
+     * @return The table
+     */
+    public WeightedAliasTable<A> getSampler() {
+        var sampler = this.sampler;
+
+        if (sampler == null) {
+            Map<A, Double> weights = new HashMap<>();
+
+            for (WeightedObject<A> value : this.entries.values()) {
+                if (value.weight > 0) {
+                    weights.merge(value.getObject(), value.weight, Double::sum);
+                }
+            }
+
+            sampler = WeightedAliasTable.of(weights);
+            this.sampler = sampler;
+        }
+
+        return sampler;
     }
 
     public A getRandom() {
-        return this.getWeightedSet().getRandom();
+        return this.getSampler().sample();
+    }
+
+    public List<A> sample(int amount) {
+        return this.getSampler().sample(amount);
+    }
+
+    public List<A> sampleWithoutReplacement(int amount) {
+        return this.getSampler().sampleWithoutReplacement(amount);
     }
 
     public static <A> Builder<A> builder(A entry, double weight) {
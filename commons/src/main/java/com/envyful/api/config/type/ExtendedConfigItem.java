@@ -40,6 +40,8 @@ public class ExtendedConfigItem {
     private List<String> commandsExecuted;
     private CommentedConfigurationNode components = CommentedConfigurationNode.root();
 
+    private transient ConfigItem configItem = null;
+
     public ExtendedConfigItem() {
     }
 
@@ -148,8 +150,19 @@ public class ExtendedConfigItem {
         return player.hasPermission(this.permission);
     }
 
+    /**
+     *
+     * Gets this item as a {@link ConfigItem}. The same instance is returned each time, so the platforms
+     * can cache what they build from it
+     *
+     * @return The config item
+     */
     public ConfigItem asConfigItem() {
-        return new InternalConfigItem(this);
+        if (this.configItem == null) {
+            this.configItem = new InternalConfigItem(this);
+        }
+
+        return this.configItem;
     }
 
     public Displayable toDisplayable(Placeholder... placeholders) {
@@ -0,0 +1,421 @@
+package com.envyful.api.config.yaml;
+
+import com.envyful.api.concurrency.UtilConcurrency;
+import com.envyful.api.concurrency.UtilLogger;
+import com.envyful.api.type.Pair;
+import org.spongepowered.configurate.serialize.ScalarSerializer;
+import org.spongepowered.configurate.yaml.NodeStyle;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ *
+ * A directory of YAML configs loaded as instances of the same class that's kept up to date as the files change.
+ * <br>
+ * Only files whose size or modified time changed since they were last loaded are parsed again. A file that fails
+ * to parse keeps its previous instance and the error is logged. Once all the changed files have been parsed the
+ * loaded instances are replaced in one go, so {@link #getInstances()} never sees a partially reloaded directory,
+ * and the listeners are given a {@link Change} containing only what was added, updated, and removed. Listeners for
+ * changes made on disk run on the background watch thread
+ * <br>
+ * Created using {@link YamlConfigFactory#watchInstances(Class, String, DefaultConfig[])}
+ *
+ * @param <T> The type of the configs
+ */
+public class YamlConfigDirectory<T extends AbstractYamlConfig> implements Closeable {
+
+    private static final long DEBOUNCE_MILLIS = 250;
+
+    private final Class<T> configClass;
+    private final Path directory;
+    private final List<Class<? extends ScalarSerializer<?>>> serializers;
+    private final NodeStyle style;
+    private final List<Consumer<Change<T>>> listeners = new CopyOnWriteArrayList<>();
+    private final Map<WatchKey, Path> watchedDirectories = new ConcurrentHashMap<>();
+    private final Object reloadLock = new Object();
+
+    private volatile Map<Path, LoadedFile<T>> files = Collections.emptyMap();
+    private volatile boolean closed = false;
+    private WatchService watchService;
+    private Thread watchThread;
+
+    YamlConfigDirectory(Class<T> configClass, Path directory, List<Class<? extends ScalarSerializer<?>>> serializers,
+                        NodeStyle style) throws IOException {
+        this.configClass = configClass;
+        this.directory = directory.toAbsolutePath().normalize();
+        this.serializers = serializers;
+        this.style = style;
+
+        Map<Path, LoadedFile<T>> files = new HashMap<>();
+
+        for (var file : this.findConfigFiles()) {
+            files.put(file, new LoadedFile<>(YamlConfigFactory.loadFile(file, serializers, style, configClass),
+                    Files.readAttributes(file, BasicFileAttributes.class)));
+        }
+
+        this.files = Collections.unmodifiableMap(files);
+    }
+
+    /**
+     *
+     * Gets the currently loaded configs
+     *
+     * @return The configs
+     */
+    public List<T> getInstances() {
+        List<T> instances = new ArrayList<>(this.files.size());
+
+        for (var file : this.files.values()) {
+            instances.add(file.instance);
+        }
+
+        return instances;
+    }
+
+    /**
+     *
+     * Gets the config currently loaded from the given file
+     *
+     * @param file The file
+     * @return The config, or null if the file isn't loaded
+     */
+    public T getInstance(Path file) {
+        var loaded = this.files.get(file.toAbsolutePath().normalize());
+        return loaded == null ? null : loaded.instance;
+    }
+
+    /**
+     *
+     * Adds a listener told about every change to the loaded configs. Listeners are called on the thread that
+     * made the change. Changes made on disk are picked up on the background watch thread, not the server thread,
+     * so listeners that touch game state must hand the work over with
+     * {@link com.envyful.api.platform.PlatformProxy#runSync(Runnable)}
+     *
+     * @param listener The listener
+     */
+    public void addListener(Consumer<Change<T>> listener) {
+        this.listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<Change<T>> listener) {
+        this.listeners.remove(listener);
+    }
+
+    /**
+     *
+     * Checks every file in the directory and reloads the ones that have been added, changed, or removed since
+     * they were last loaded
+     *
+     * @return The changes made
+     */
+    public Change<T> reload() {
+        Set<Path> candidates = new HashSet<>(this.files.keySet());
+
+        try {
+            candidates.addAll(this.findConfigFiles());
+        } catch (IOException e) {
+            UtilLogger.getLogger().error("Error listing configs in " + this.directory, e);
+            return Change.empty();
+        }
+
+        return this.reload(candidates);
+    }
+
+    /**
+     *
+     * Runs {@link #reload()} on the IO pool
+     *
+     * @return A future completed with the changes made
+     */
+    public CompletableFuture<Change<T>> reloadAsync() {
+        return UtilConcurrency.supplyIO(this::reload);
+    }
+
+    private Change<T> reload(Set<Path> candidates) {
+        Change<T> change;
+
+        synchronized (this.reloadLock) {
+            var current = this.files;
+            Map<Path, LoadedFile<T>> updated = new HashMap<>(current);
+            change = new Change<>();
+
+            for (var candidate : candidates) {
+                this.reloadFile(candidate, current, updated, change);
+            }
+
+            if (change.isEmpty()) {
+                return change;
+            }
+
+            this.files = Collections.unmodifiableMap(updated);
+        }
+
+        for (var listener : this.listeners) {
+            try {
+                listener.accept(change);
+            } catch (Exception e) {
+                UtilLogger.getLogger().error("Error handling config change in " + this.directory, e);
+            }
+        }
+
+        return change;
+    }
+
+    private void reloadFile(Path file, Map<Path, LoadedFile<T>> current, Map<Path, LoadedFile<T>> updated,
+                            Change<T> change) {
+        if (!Files.exists(file)) {
+            // A deleted directory only reports itself, so remove everything that was loaded from inside it
+            for (var entry : current.entrySet()) {
+                if (entry.getKey().startsWith(file) && updated.remove(entry.getKey()) != null) {
+                    change.removed.add(entry.getValue().instance);
+                }
+            }
+
+            return;
+        }
+
+        if (!Files.isRegularFile(file) || !file.getFileName().toString().endsWith(".yml")) {
+            return;
+        }
+
+        var previous = current.get(file);
+
+        try {
+            var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+
+            if (previous != null && previous.isSameAs(attributes)) {
+                return;
+            }
+
+            var instance = YamlConfigFactory.loadFile(file, this.serializers, this.style, this.configClass);
+            updated.put(file, new LoadedFile<>(instance, attributes));
+
+            if (previous == null) {
+                change.added.add(instance);
+            } else {
+                change.updated.add(Pair.of(previous.instance, instance));
+            }
+        } catch (IOException e) {
+            UtilLogger.getLogger().error("Error reloading config " + file + ", keeping the previously loaded version", e);
+        }
+    }
+
+    private List<Path> findConfigFiles() throws IOException {
+        List<Path> found = new ArrayList<>();
+
+        Files.walkFileTree(this.directory, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (attrs.isRegularFile() && file.getFileName().toString().endsWith(".yml")) {
+                    found.add(file.toAbsolutePath().normalize());
+                }
+
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        return found;
+    }
+
+    /**
+     *
+     * Starts watching the directory, and all directories inside of it, for changes on a background thread
+     *
+     * @throws IOException If the directory cannot be watched
+     */
+    public synchronized void startWatching() throws IOException {
+        if (this.watchThread != null || this.closed) {
+            return;
+        }
+
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.registerAll(this.directory);
+
+        this.watchThread = new Thread(this::watch, "envyware_config_watch_" + this.directory.getFileName());
+        this.watchThread.setDaemon(true);
+        this.watchThread.start();
+    }
+
+    private void registerAll(Path root) throws IOException {
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                var key = dir.register(YamlConfigDirectory.this.watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY,
+                        StandardWatchEventKinds.ENTRY_DELETE);
+
+                YamlConfigDirectory.this.watchedDirectories.put(key, dir.toAbsolutePath().normalize());
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void watch() {
+        while (!this.closed) {
+            try {
+                Set<Path> changed = new HashSet<>();
+                var key = this.watchService.take();
+                var fullReload = this.collect(key, changed);
+
+                // Editors and copies tend to write a file in several steps, so wait for them to settle
+                while ((key = this.watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    fullReload |= this.collect(key, changed);
+                }
+
+                if (fullReload) {
+                    this.reload();
+                } else if (!changed.isEmpty()) {
+                    this.reload(changed);
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            } catch (Exception e) {
+                UtilLogger.getLogger().error("Error watching configs in " + this.directory, e);
+            }
+        }
+    }
+
+    private boolean collect(WatchKey key, Set<Path> changed) {
+        var dir = this.watchedDirectories.get(key);
+        var overflow = false;
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || dir == null) {
+                overflow = true;
+                continue;
+            }
+
+            var path = dir.resolve((Path) event.context()).normalize();
+
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+                try {
+                    this.registerAll(path);
+                } catch (IOException e) {
+                    UtilLogger.getLogger().error("Error watching config directory " + path, e);
+                }
+
+                // Files can be written before the new directory is registered, so treat the directory as changed
+                overflow = true;
+                continue;
+            }
+
+            changed.add(path);
+        }
+
+        if (!key.reset()) {
+            this.watchedDirectories.remove(key);
+        }
+
+        return overflow;
+    }
+
+    /**
+     *
+     * Stops watching the directory. The loaded configs remain available
+     *
+     */
+    @Override
+    public synchronized void close() {
+        this.closed = true;
+
+        if (this.watchService == null) {
+            return;
+        }
+
+        try {
+            this.watchService.close();
+        } catch (IOException e) {
+            UtilLogger.getLogger().error("Error closing config watcher for " + this.directory, e);
+        }
+
+        if (this.watchThread != null) {
+            this.watchThread.interrupt();
+        }
+    }
+
+    private static final class LoadedFile<T> {
+
+        private final T instance;
+        private final long size;
+        private final long lastModified;
+
+        private LoadedFile(T instance, BasicFileAttributes attributes) {
+            this.instance = instance;
+            this.size = attributes.size();
+            this.lastModified = attributes.lastModifiedTime().toMillis();
+        }
+
+        private boolean isSameAs(BasicFileAttributes attributes) {
+            return this.size == attributes.size() && this.lastModified == attributes.lastModifiedTime().toMillis();
+        }
+    }
+
+    /**
+     *
+     * The configs added, updated, and removed by a reload
+     *
+     * @param <T> The type of the configs
+     */
+    public static final class Change<T> {
+
+        private static final Change<?> EMPTY = new Change<>();
+
+        private final List<T> added = new ArrayList<>();
+        private final List<Pair<T, T>> updated = new ArrayList<>();
+        private final List<T> removed = new ArrayList<>();
+
+        private Change() {}
+
+        @SuppressWarnings("unchecked")
+        private static <T> Change<T> empty() {
+            return (Change<T>) EMPTY;
+        }
+
+        public List<T> getAdded() {
+            return Collections.unmodifiableList(this.added);
+        }
+
+        /**
+         *
+         * Gets the configs that were reloaded
+         *
+         * @return Pairs of the previous instance and the new instance
+         */
+        public List<Pair<T, T>> getUpdated() {
+            return Collections.unmodifiableList(this.updated);
+        }
+
+        public List<T> getRemoved() {
+            return Collections.unmodifiableList(this.removed);
+        }
+
+        public boolean isEmpty() {
+            return this.added.isEmpty() && this.updated.isEmpty() && this.removed.isEmpty();
+        }
+    }
+}
@@ -111,13 +111,55 @@ public class YamlConfigFactory {
         }
 
         var style = getNodeStyle(configClass);
-        List<Class<? extends ScalarSerializer<?>>> serializers = new ArrayList<>();
-        var serializedData = configClass.getAnnotation(ScalarSerializers.class);
+        var serializers = getScalarSerializers(configClass);
 
-        if (serializedData != null) {
-            serializers.addAll(Arrays.asList(serializedData.value()));
+        writeDefaults(configClass, configDirectory, serializers, style, defaults);
+
+        return loadDirectory(configFiles, serializers, style, configClass);
+    }
+
+    /**
+     *
+     * Loads all files as an instance of the class provided from the directory given, and keeps them up to date
+     * as the files change.
+     * <br>
+     * The directory is watched for changes on a background thread and only the files that changed are parsed
+     * again. The loaded instances are replaced atomically and the listeners on the returned
+     * {@link YamlConfigDirectory} are told what was added, updated, and removed on that background thread
+     *
+     * @param configClass The class to load the files as
+     * @param configDirectory The directory to load the files from
+     * @param defaults The default configs to write to the directory
+     * @return The watched directory
+     * @param <T> The class type
+     * @throws IOException Thrown if there is an error loading any of the configs initially
+     */
+    @SafeVarargs
+    public static <T extends AbstractYamlConfig> YamlConfigDirectory<T> watchInstances(Class<T> configClass,
+                 String configDirectory, DefaultConfig<T>... defaults) throws IOException {
+        var configFiles = Paths.get(configDirectory).toFile();
+
+        if (!configFiles.exists()) {
+            configFiles.mkdir();
         }
 
+        if (!configFiles.isDirectory()) {
+            throw new IOException("Invalid path provided - must be a directory `" + configDirectory + "`");
+        }
+
+        var style = getNodeStyle(configClass);
+        var serializers = getScalarSerializers(configClass);
+
+        writeDefaults(configClass, configDirectory, serializers, style, defaults);
+
+        var directory = new YamlConfigDirectory<>(configClass, configFiles.toPath(), serializers, style);
+        directory.startWatching();
+        return directory;
+    }
+
+    private static <T extends AbstractYamlConfig> void
+    writeDefaults(Class<T> configClass, String configDirectory, List<Class<? extends ScalarSerializer<?>>> serializers,
+                  NodeStyle style, DefaultConfig<T>[] defaults) throws IOException {
         for (var defaultConfig : defaults) {
             var file = new File(configDirectory, defaultConfig.getFileName());
 
@@ -145,8 +187,6 @@ public class YamlConfigFactory {
             defaultConfig.getInstance().path = file.toPath();
             defaultConfig.getInstance().save();
         }
-
-        return loadDirectory(configFiles, serializers, style, configClass);
     }
 
     private static <T extends AbstractYamlConfig> List<T>
@@ -164,32 +204,37 @@ public class YamlConfigFactory {
                 continue;
             }
 
-            try {
-                ConfigurationReference<CommentedConfigurationNode> base =
-                        listenToConfig(listFile.toPath(), serializers, style);
+            loadedConfigs.add(loadFile(listFile.toPath(), serializers, style, configClass));
+        }
 
-                if (base == null) {
-                    throw new IOException("Error config loaded as null");
-                }
+        return loadedConfigs;
+    }
 
-                ValueReference<T, CommentedConfigurationNode> reference =
-                        base.referenceTo(configClass);
-                T instance = reference.get();
+    static <T extends AbstractYamlConfig> T loadFile(Path file, List<Class<? extends ScalarSerializer<?>>> serializers,
+                                                      NodeStyle style, Class<T> configClass) throws IOException {
+        try {
+            ConfigurationReference<CommentedConfigurationNode> base =
+                    listenToConfig(file, serializers, style);
 
-                if (instance == null) {
-                    throw new IOException("Error config loaded as null");
-                }
+            if (base == null) {
+                throw new IOException("Error config loaded as null");
+            }
+
+            ValueReference<T, CommentedConfigurationNode> reference =
+                    base.referenceTo(configClass);
+            T instance = reference.get();
 
-                instance.base = base;
-                instance.config = reference;
-                instance.path = listFile.toPath();
-                loadedConfigs.add(instance);
-            } catch (Exception e) {
-                throw new IOException("Error loading config " + listFile.getName(), e);
+            if (instance == null) {
+                throw new IOException("Error config loaded as null");
             }
-        }
 
-        return loadedConfigs;
+            instance.base = base;
+            instance.config = reference;
+            instance.path = file;
+            return instance;
+        } catch (Exception e) {
+            throw new IOException("Error loading config " + file.getFileName(), e);
+        }
     }
 
     /**
@@ -278,7 +323,18 @@ public class YamlConfigFactory {
         return instance;
     }
 
-    private static NodeStyle getNodeStyle(Class<?> clazz) {
+    static List<Class<? extends ScalarSerializer<?>>> getScalarSerializers(Class<?> clazz) {
+        List<Class<? extends ScalarSerializer<?>>> serializers = new ArrayList<>();
+        var serializedData = clazz.getAnnotation(ScalarSerializers.class);
+
+        if (serializedData != null) {
+            serializers.addAll(Arrays.asList(serializedData.value()));
+        }
+
+        return serializers;
+    }
+
+    static NodeStyle getNodeStyle(Class<?> clazz) {
         YamlConfigStyle annotation = clazz.getAnnotation(YamlConfigStyle.class);
 
         if (annotation == null) {
@@ -67,6 +67,62 @@ public interface Database extends DataSource {
         return UtilSql.<T>batchUpdate().database(this).query(query);
     }
 
+    /**
+     *
+     * A shorthand method for creating a new streaming batch update builder
+     *
+     * @param query The query
+     * @return The builder
+     * @param <T> The type of the rows
+     */
+    default <T> UtilSql.StreamingBatchBuilder<T> streamingBatch(String query) {
+        return UtilSql.<T>streamingBatch(this).query(query);
+    }
+
+    /**
+     *
+     * Gets the clause appended to a query to restrict it to a window of rows
+     * <br>
+     * MySQL, SQLite and H2 all accept the {@code LIMIT ? OFFSET ?} form so this only
+     * needs overriding for a dialect that does not. The clause uses two parameters
+     * with the limit bound before the offset
+     *
+     * @return The paging clause
+     * @throws UnsupportedOperationException If this isn't an SQL database
+     */
+    default String getPagingClause() throws UnsupportedOperationException {
+        return " LIMIT ? OFFSET ?";
+    }
+
+    /**
+     *
+     * Gets a statement that inserts a row, or updates the existing row if one with the same key already exists
+     * <br>
+     * The statement takes one parameter per column, the key column first followed by the
+     * other columns in the order given. The default is the MySQL form
+     *
+     * @param table The table
+     * @param keyColumn The unique column identifying the row
+     * @param columns The other columns to set
+     * @return The upsert statement
+     * @throws UnsupportedOperationException If this isn't an SQL database
+     */
+    default String getUpsertSQL(String table, String keyColumn, String... columns) throws UnsupportedOperationException {
+        var sql = new StringBuilder("INSERT INTO `").append(table).append("` (").append(keyColumn);
+
+        for (var column : columns) {
+            sql.append(", ").append(column);
+        }
+
+        sql.append(") VALUES (?").append(", ?".repeat(columns.length)).append(") ON DUPLICATE KEY UPDATE ");
+
+        for (int i = 0; i < columns.length; i++) {
+            sql.append(i == 0 ? "" : ", ").append(columns[i]).append(" = VALUES(").append(columns[i]).append(")");
+        }
+
+        return sql.append(";").toString();
+    }
+
     /**
      *
      * Gets the Jedis connection from the database if available
@@ -2,18 +2,24 @@ package com.envyful.api.database.leaderboard;
 
 public enum Order {
 
-    ASCENDING("ASC"),
-    DESCENDING("DESC"),
+    ASCENDING("ASC", "<"),
+    DESCENDING("DESC", ">"),
 
     ;
 
     private final String sqlText;
+    private final String rankComparison;
 
-    Order(String sqlText) {
+    Order(String sqlText, String rankComparison) {
         this.sqlText = sqlText;
+        this.rankComparison = rankComparison;
     }
 
     public String getSqlText(String column) {
         return " ORDER BY " + column +  " " + this.sqlText;
     }
+
+    public String getRankedAboveText(String column) {
+        return column + " " + this.rankComparison + " ?";
+    }
 }
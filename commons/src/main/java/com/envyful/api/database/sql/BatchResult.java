@@ -0,0 +1,129 @@
+package com.envyful.api.database.sql;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ *
+ * The outcome of a streaming batch update from {@link UtilSql#executeStreamingBatch}
+ *
+ */
+public class BatchResult {
+
+    private final boolean successful;
+    private final int rows;
+    private final long updateCount;
+    private final List<Chunk> chunks;
+
+    BatchResult(boolean successful, int rows, long updateCount, List<Chunk> chunks) {
+        this.successful = successful;
+        this.rows = rows;
+        this.updateCount = updateCount;
+        this.chunks = Collections.unmodifiableList(chunks);
+    }
+
+    /**
+     *
+     * Whether every chunk was executed and committed. If not the transaction was rolled back
+     *
+     * @return True if successful
+     */
+    public boolean isSuccessful() {
+        return this.successful;
+    }
+
+    /**
+     *
+     * Gets the number of rows that were sent to the database
+     *
+     * @return The row count
+     */
+    public int getRows() {
+        return this.rows;
+    }
+
+    /**
+     *
+     * Gets the total number of rows reported as updated by the database. Drivers that don't
+     * report per-statement counts contribute nothing to this
+     *
+     * @return The update count
+     */
+    public long getUpdateCount() {
+        return this.updateCount;
+    }
+
+    /**
+     *
+     * Gets the chunks that were executed, in order
+     *
+     * @return The chunks
+     */
+    public List<Chunk> getChunks() {
+        return this.chunks;
+    }
+
+    /**
+     *
+     * Gets the total time spent executing chunks
+     *
+     * @return The time in nanoseconds
+     */
+    public long getTotalNanos() {
+        long total = 0;
+
+        for (var chunk : this.chunks) {
+            total += chunk.getNanos();
+        }
+
+        return total;
+    }
+
+    /**
+     *
+     * The timing of a single chunk of a streaming batch update
+     *
+     */
+    public static class Chunk {
+
+        private final int index;
+        private final int rows;
+        private final long nanos;
+
+        Chunk(int index, int rows, long nanos) {
+            this.index = index;
+            this.rows = rows;
+            this.nanos = nanos;
+        }
+
+        /**
+         *
+         * Gets the position of this chunk in the batch, starting from 0
+         *
+         * @return The index
+         */
+        public int getIndex() {
+            return this.index;
+        }
+
+        /**
+         *
+         * Gets the number of rows in this chunk
+         *
+         * @return The row count
+         */
+        public int getRows() {
+            return this.rows;
+        }
+
+        /**
+         *
+         * Gets the time spent binding and executing this chunk
+         *
+         * @return The time in nanoseconds
+         */
+        public long getNanos() {
+            return this.nanos;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.envyful.api.database.sql;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ *
+ * Binds the parameters for a single row straight onto a prepared statement
+ * <br>
+ * Unlike converting each row to a list of {@link SqlType}s this allocates nothing per row, so
+ * the same binder can be reused for every row of a large batch
+ *
+ * @param <T> The type of the row
+ */
+@FunctionalInterface
+public interface SqlBinder<T> {
+
+    /**
+     *
+     * Sets the parameters for the row on the statement
+     *
+     * @param row The row
+     * @param statement The statement to set
+     * @throws SQLException any errors that occur
+     */
+    void bind(T row, PreparedStatement statement) throws SQLException;
+
+}
@@ -4,6 +4,7 @@ import com.envyful.api.concurrency.UtilConcurrency;
 import com.envyful.api.concurrency.UtilLogger;
 import com.envyful.api.database.Database;
 import com.envyful.api.database.SQLFunction;
+import com.envyful.api.database.sql.util.NonCloseableConnection;
 import com.envyful.api.type.ExceptionThrowingConsumer;
 import com.mysql.cj.jdbc.Driver;
 import uk.co.envyware.helios.RequiredMethod;
@@ -15,10 +16,13 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  *
@@ -131,6 +135,100 @@ public class UtilSql {
         return new int[0];
     }
 
+    /**
+     *
+     * Executes a batch update streaming the rows from the iterator in chunks of the given size,
+     * so the whole data set never has to be held in memory or sent as one giant batch
+     * <br>
+     * Each row is bound straight onto the statement by the binder and all chunks run inside a
+     * single transaction, which is rolled back if any chunk fails. The listener is given the
+     * timing of each chunk as it completes
+     * <br>
+     * Databases that hand every caller the same {@link NonCloseableConnection}, such as SQLite and H2,
+     * are not run in a transaction as changing the connection's auto commit or rolling it back would also
+     * affect statements other threads are running on it. For those each chunk is committed as it runs
+     * <br>
+     * Any errors will log to {@link UtilLogger} if set
+     *
+     * @param database The database to update
+     * @param query The query
+     * @param data The rows
+     * @param binder The binder to set each row's parameters
+     * @param chunkSize The maximum number of rows per JDBC batch
+     * @param listener The listener for chunk timings, can be null
+     * @return The result
+     * @param <T> The type of the rows
+     */
+    public static <T> BatchResult executeStreamingBatch(Database database, String query, Iterator<? extends T> data,
+                                                        SqlBinder<? super T> binder, int chunkSize,
+                                                        Consumer<BatchResult.Chunk> listener) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+
+        List<BatchResult.Chunk> chunks = new ArrayList<>();
+        int rows = 0;
+        long updateCount = 0;
+
+        try (var connection = database.getConnection()) {
+            var transaction = !(connection instanceof NonCloseableConnection);
+            var autoCommit = !transaction || connection.getAutoCommit();
+
+            if (transaction) {
+                connection.setAutoCommit(false);
+            }
+
+            try (var preparedStatement = connection.prepareStatement(query)) {
+                while (data.hasNext()) {
+                    var start = System.nanoTime();
+                    var chunkRows = 0;
+
+                    while (chunkRows < chunkSize && data.hasNext()) {
+                        binder.bind(data.next(), preparedStatement);
+                        preparedStatement.addBatch();
+                        chunkRows++;
+                    }
+
+                    for (var count : preparedStatement.executeBatch()) {
+                        if (count > 0) {
+                            updateCount += count;
+                        }
+                    }
+
+                    preparedStatement.clearBatch();
+                    rows += chunkRows;
+
+                    var chunk = new BatchResult.Chunk(chunks.size(), chunkRows, System.nanoTime() - start);
+                    chunks.add(chunk);
+
+                    if (listener != null) {
+                        listener.accept(chunk);
+                    }
+                }
+
+                if (transaction) {
+                    connection.commit();
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (transaction) {
+                    connection.rollback();
+                }
+
+                throw e;
+            } finally {
+                if (transaction) {
+                    connection.setAutoCommit(autoCommit);
+                }
+            }
+
+            return new BatchResult(true, rows, updateCount, chunks);
+        } catch (SQLException e) {
+            UtilLogger.getLogger().error("Error executing SQL (" + query + ") after " + rows + " rows", e);
+        }
+
+        return new BatchResult(false, rows, updateCount, chunks);
+    }
+
     /**
      *
      * Executes the query provided as an update {@link PreparedStatement#executeQuery()}
@@ -246,6 +344,18 @@ public class UtilSql {
         return new BatchUpdateBuilder<T>().data(data);
     }
 
+    /**
+     *
+     * Creates a streaming batch update builder
+     *
+     * @param database The database to update
+     * @return The builder
+     * @param <T> The type
+     */
+    public static <T> StreamingBatchBuilder<T> streamingBatch(Database database) {
+        return new StreamingBatchBuilder<T>().database(database);
+    }
+
     public static class QueryBuilder<T> {
 
         private Database database;
@@ -317,7 +427,7 @@ public class UtilSql {
                 "database", "query"
         })
         public CompletableFuture<ResultSet> executeAsync() {
-            return this.executeAsync(UtilConcurrency.SCHEDULED_EXECUTOR_SERVICE);
+            return this.executeAsync(UtilConcurrency.getIOPool());
         }
 
         @RequiredMethod({
@@ -331,7 +441,7 @@ public class UtilSql {
                 "database", "query", "converter"
         })
         public CompletableFuture<List<T>> executeAsyncWithConverter() {
-            return this.executeAsyncWithConverter(UtilConcurrency.SCHEDULED_EXECUTOR_SERVICE);
+            return this.executeAsyncWithConverter(UtilConcurrency.getIOPool());
         }
 
         @RequiredMethod({
@@ -391,7 +501,7 @@ public class UtilSql {
                 "database", "query"
         })
         public CompletableFuture<Integer> executeAsync() {
-            return this.executeAsync(UtilConcurrency.SCHEDULED_EXECUTOR_SERVICE);
+            return this.executeAsync(UtilConcurrency.getIOPool());
         }
 
         @RequiredMethod({
@@ -405,7 +515,7 @@ public class UtilSql {
                 "database", "query"
         })
         public CompletableFuture<ResultSet> executeInsertionAsync() {
-            return this.executeInsertionAsync(UtilConcurrency.SCHEDULED_EXECUTOR_SERVICE);
+            return this.executeInsertionAsync(UtilConcurrency.getIOPool());
         }
 
 
@@ -470,7 +580,7 @@ public class UtilSql {
                 "database", "query"
         })
         public CompletableFuture<Integer[]> executeAsync() {
-            return this.executeAsync(UtilConcurrency.SCHEDULED_EXECUTOR_SERVICE);
+            return this.executeAsync(UtilConcurrency.getIOPool());
         }
 
         @RequiredMethod({
@@ -490,4 +600,88 @@ public class UtilSql {
         }
     }
 
+    public static class StreamingBatchBuilder<T> {
+
+        private Database database;
+        private String query;
+        private Iterator<? extends T> data;
+        private SqlBinder<? super T> binder;
+        private int chunkSize = 1000;
+        private Consumer<BatchResult.Chunk> listener;
+
+        private StreamingBatchBuilder() {}
+
+        public StreamingBatchBuilder<T> database(Database database) {
+            this.database = database;
+            return this;
+        }
+
+        public StreamingBatchBuilder<T> query(String query) {
+            this.query = query;
+            return this;
+        }
+
+        public StreamingBatchBuilder<T> data(Iterable<? extends T> data) {
+            this.data = data.iterator();
+            return this;
+        }
+
+        public StreamingBatchBuilder<T> data(Iterator<? extends T> data) {
+            this.data = data;
+            return this;
+        }
+
+        public StreamingBatchBuilder<T> data(Stream<? extends T> data) {
+            this.data = data.iterator();
+            return this;
+        }
+
+        public StreamingBatchBuilder<T> binder(SqlBinder<? super T> binder) {
+            this.binder = binder;
+            return this;
+        }
+
+        public StreamingBatchBuilder<T> chunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        public StreamingBatchBuilder<T> onChunk(Consumer<BatchResult.Chunk> listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        @RequiredMethod({
+                "database", "query", "data", "binder"
+        })
+        public BatchResult execute() {
+            if (this.database == null) {
+                throw new IllegalArgumentException("Database cannot be null");
+            }
+
+            if (this.data == null) {
+                throw new IllegalArgumentException("Data cannot be null");
+            }
+
+            if (this.binder == null) {
+                throw new IllegalArgumentException("Binder cannot be null");
+            }
+
+            return executeStreamingBatch(this.database, this.query, this.data, this.binder, this.chunkSize, this.listener);
+        }
+
+        @RequiredMethod({
+                "database", "query", "data", "binder"
+        })
+        public CompletableFuture<BatchResult> executeAsync() {
+            return this.executeAsync(UtilConcurrency.getIOPool());
+        }
+
+        @RequiredMethod({
+                "database", "query", "data", "binder"
+        })
+        public CompletableFuture<BatchResult> executeAsync(Executor executor) {
+            return CompletableFuture.supplyAsync(this::execute, executor);
+        }
+    }
 }
@@ -15,6 +15,7 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 
 @ConfigSerializable
@@ -53,7 +54,7 @@ public class DiscordWebHookConfig extends AbstractYamlConfig {
      * @return The future of the task
      */
     public CompletableFuture<Void> executeAsync(Placeholder... placeholders) {
-        return this.executeAsync(UtilConcurrency.SCHEDULED_EXECUTOR_SERVICE, placeholders);
+        return this.executeAsync(UtilConcurrency.getIOPool(), placeholders);
     }
 
     /**
@@ -65,6 +66,18 @@ public class DiscordWebHookConfig extends AbstractYamlConfig {
      * @return The future of the task
      */
     public CompletableFuture<Void> executeAsync(ExecutorService executorService, Placeholder... placeholders) {
+        return this.executeAsync((Executor) executorService, placeholders);
+    }
+
+    /**
+     *
+     * Sends the message to the web hook URL asynchronously
+     *
+     * @param executor The executor to run the task on
+     * @param placeholders The placeholders to replace in the message
+     * @return The future of the task
+     */
+    public CompletableFuture<Void> executeAsync(Executor executor, Placeholder... placeholders) {
         return CompletableFuture.supplyAsync(() -> {
             try {
                 this.execute(placeholders);
@@ -73,7 +86,7 @@ public class DiscordWebHookConfig extends AbstractYamlConfig {
             }
 
             return null;
-        }, executorService);
+        }, executor);
     }
 
     /**
@@ -15,6 +15,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.BiFunction;
 
 public class Leaderboard<A> {
@@ -23,23 +24,38 @@ public class Leaderboard<A> {
     private final String table;
     private final Order order;
     private final String orderColumn;
+    private final String idColumn;
     private final int perPage;
     private final String extraClauses;
     private final SQLFunction<ResultSet, A> formatter;
     private final Map<Integer, List<A>> cachedEntries;
+    private final RankedIndex<A> index;
+
+    private volatile boolean indexLoaded = false;
 
     private Leaderboard(Builder<A> builder) {
         this.database = builder.database;
         this.table = builder.table;
         this.order = builder.order;
         this.orderColumn = builder.orderColumn;
+        this.idColumn = builder.idColumn;
         this.perPage = builder.perPage;
         this.extraClauses = builder.extraClauses;
         this.formatter = builder.formatter;
         this.cachedEntries = new TimeOutHashMap<>(builder.cacheDuration);
+        this.index = builder.inMemory ? new RankedIndex<>(builder.order) : null;
+
+        if (this.index != null && this.idColumn == null) {
+            throw new IllegalArgumentException("An id column is required for an in-memory leaderboard");
+        }
     }
 
     public List<A> getPage(int page) {
+        if (this.index != null) {
+            this.loadIndex();
+            return this.index.getRange(page * this.perPage, this.perPage);
+        }
+
         List<A> cachedPage = this.cachedEntries.get(page);
 
         if (cachedPage != null) {
@@ -51,17 +67,16 @@ public class Leaderboard<A> {
 
     public List<A> loadPage(int page) {
         try (Connection connection = this.database.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement(this.getSQL())) {
-            ResultSet resultSet = preparedStatement.executeQuery();
-            int counter = 0;
-            List<A> data = new ArrayList<>();
+             PreparedStatement preparedStatement = connection.prepareStatement(this.getPageSQL())) {
+            preparedStatement.setInt(1, this.perPage);
+            preparedStatement.setInt(2, page * this.perPage);
+
+            List<A> data = new ArrayList<>(this.perPage);
 
-            while (resultSet.next()) {
-                if ((counter / perPage) == page) {
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
                     data.add(this.formatter.apply(resultSet));
                 }
-
-                ++counter;
             }
 
             this.cachedEntries.put(page, data);
@@ -73,8 +88,160 @@ public class Leaderboard<A> {
         return Collections.emptyList();
     }
 
+    /**
+     *
+     * Gets the position of the given id on the leaderboard, starting from 0
+     * <br>
+     * Ids with the same value share a position, being the number of rows with a strictly
+     * better value. This is the same whether or not the leaderboard is held in memory
+     * <br>
+     * Rather than scanning the table this counts the rows ranked above the id's
+     * value so an index on the order column keeps it cheap
+     *
+     * @param id The id to find the rank of
+     * @return The position, or -1 if the id is not on the leaderboard or is excluded by the extra clauses
+     */
+    public int rankOf(UUID id) {
+        if (this.idColumn == null) {
+            throw new IllegalStateException("Cannot find the rank of an id without an id column");
+        }
+
+        if (this.index != null) {
+            this.loadIndex();
+            return this.index.rank(id);
+        }
+
+        try (Connection connection = this.database.getConnection();
+             PreparedStatement valueStatement = connection.prepareStatement(this.getValueSQL())) {
+            valueStatement.setString(1, id.toString());
+
+            Object value;
+
+            try (ResultSet resultSet = valueStatement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return -1;
+                }
+
+                value = resultSet.getObject(1);
+            }
+
+            try (PreparedStatement rankStatement = connection.prepareStatement(this.getRankSQL())) {
+                rankStatement.setObject(1, value);
+
+                try (ResultSet resultSet = rankStatement.executeQuery()) {
+                    return resultSet.next() ? resultSet.getInt(1) : -1;
+                }
+            }
+        } catch (SQLException e) {
+            UtilLogger.getLogger().error("Failed to load leaderboard rank", e);
+        }
+
+        return -1;
+    }
+
+    /**
+     *
+     * Pushes a new score for the id into the in-memory index
+     * <br>
+     * This is expected to be called when the underlying value is saved so the
+     * index stays in line with the table without re-querying it. It is up to the
+     * caller to only push ids that match the leaderboard's extra clauses
+     *
+     * @param id The id
+     * @param score The new score
+     * @param entry The entry to display for the id
+     */
+    public void update(UUID id, double score, A entry) {
+        if (this.index == null) {
+            throw new IllegalStateException("Leaderboard is not held in memory");
+        }
+
+        this.loadIndex();
+        this.index.update(id, score, entry);
+    }
+
+    /**
+     *
+     * Removes the id from the in-memory index
+     *
+     * @param id The id
+     */
+    public void remove(UUID id) {
+        if (this.index == null) {
+            throw new IllegalStateException("Leaderboard is not held in memory");
+        }
+
+        this.loadIndex();
+        this.index.remove(id);
+    }
+
+    /**
+     *
+     * Discards the in-memory index, or the cached pages, so that they're
+     * loaded from the database again on next access
+     *
+     */
+    public void invalidate() {
+        this.cachedEntries.clear();
+
+        if (this.index != null) {
+            synchronized (this.index) {
+                this.index.clear();
+                this.indexLoaded = false;
+            }
+        }
+    }
+
+    private void loadIndex() {
+        if (this.indexLoaded) {
+            return;
+        }
+
+        synchronized (this.index) {
+            if (this.indexLoaded) {
+                return;
+            }
+
+            try (Connection connection = this.database.getConnection();
+                 PreparedStatement preparedStatement = connection.prepareStatement(this.getSQL());
+                 ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    this.index.update(
+                            UUID.fromString(resultSet.getString(this.idColumn)),
+                            resultSet.getDouble(this.orderColumn),
+                            this.formatter.apply(resultSet)
+                    );
+                }
+
+                this.indexLoaded = true;
+            } catch (SQLException e) {
+                UtilLogger.getLogger().error("Failed to load leaderboard", e);
+            }
+        }
+    }
+
     private String getSQL() {
-        return "SELECT * FROM `" + this.table + "` " + ((this.extraClauses == null || this.extraClauses.isEmpty()) ? "" : "WHERE " + this.extraClauses) + this.order.getSqlText(this.orderColumn) + ";";
+        return "SELECT * FROM `" + this.table + "` " + this.getWhereClause() + this.order.getSqlText(this.orderColumn) + ";";
+    }
+
+    private String getPageSQL() {
+        return "SELECT * FROM `" + this.table + "` " + this.getWhereClause() + this.order.getSqlText(this.orderColumn) + this.database.getPagingClause() + ";";
+    }
+
+    private String getValueSQL() {
+        return "SELECT " + this.orderColumn + " FROM `" + this.table + "` WHERE " + this.idColumn + " = ?" + (this.hasExtraClauses() ? " AND (" + this.extraClauses + ")" : "") + ";";
+    }
+
+    private String getRankSQL() {
+        return "SELECT COUNT(*) FROM `" + this.table + "` WHERE " + this.order.getRankedAboveText(this.orderColumn) + (this.hasExtraClauses() ? " AND (" + this.extraClauses + ")" : "") + ";";
+    }
+
+    private String getWhereClause() {
+        return this.hasExtraClauses() ? "WHERE " + this.extraClauses : "";
+    }
+
+    private boolean hasExtraClauses() {
+        return this.extraClauses != null && !this.extraClauses.isEmpty();
     }
 
     public Placeholder getPagePlaceholder(int page, BiFunction<Integer, A, List<Placeholder>> placeholderFunction) {
@@ -106,9 +273,11 @@ public class Leaderboard<A> {
         private String table;
         private Order order;
         private String orderColumn;
+        private String idColumn;
         private int perPage;
         private long cacheDuration;
         private String extraClauses;
+        private boolean inMemory;
         private SQLFunction<ResultSet, A> formatter;
 
         Builder() {}
@@ -133,6 +302,11 @@ public class Leaderboard<A> {
             return this;
         }
 
+        public Builder<A> idColumn(String idColumn) {
+            this.idColumn = idColumn;
+            return this;
+        }
+
         public Builder<A> pageSize(int perPage) {
             this.perPage = perPage;
             return this;
@@ -153,6 +327,11 @@ public class Leaderboard<A> {
             return this;
         }
 
+        public Builder<A> inMemory(boolean inMemory) {
+            this.inMemory = inMemory;
+            return this;
+        }
+
         public Leaderboard<A> build() {
             return new Leaderboard<>(this);
         }
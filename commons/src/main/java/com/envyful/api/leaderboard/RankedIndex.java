@@ -0,0 +1,303 @@
+package com.envyful.api.leaderboard;
+
+import com.envyful.api.database.leaderboard.Order;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ *
+ * An in-memory ranking of entries keyed by their score.
+ * <br>
+ * Backed by an order-statistic treap so that updates, rank lookups and page lookups
+ * are all O(log n). Ties in score are broken by the id so the page ordering is stable,
+ * but tied entries share a rank, the number of entries with a strictly better score,
+ * matching the {@code COUNT(*)} used by {@link Leaderboard#rankOf(UUID)} in SQL
+ * <br>
+ * All methods are synchronized as updates typically come from async save threads
+ * while pages are read from GUIs
+ *
+ * @param <A> The type of the entry
+ */
+public class RankedIndex<A> {
+
+    private final Order order;
+    private final Map<UUID, Node<A>> nodes = new HashMap<>();
+
+    private Node<A> root;
+
+    public RankedIndex(Order order) {
+        this.order = order;
+    }
+
+    /**
+     *
+     * Sets the score and entry for the given id, adding it if not already present
+     *
+     * @param id The id
+     * @param score The new score
+     * @param entry The entry to return from page lookups
+     */
+    public synchronized void update(UUID id, double score, A entry) {
+        var existing = this.nodes.get(id);
+
+        if (existing != null) {
+            if (Double.compare(existing.score, score) == 0) {
+                existing.entry = entry;
+                return;
+            }
+
+            this.root = this.remove(this.root, existing);
+        }
+
+        var node = new Node<>(id, score, entry);
+        this.nodes.put(id, node);
+        this.root = this.insert(this.root, node);
+    }
+
+    /**
+     *
+     * Removes the given id from the index
+     *
+     * @param id The id
+     * @return True if the id was present
+     */
+    public synchronized boolean remove(UUID id) {
+        var existing = this.nodes.remove(id);
+
+        if (existing == null) {
+            return false;
+        }
+
+        this.root = this.remove(this.root, existing);
+        return true;
+    }
+
+    /**
+     *
+     * Removes all entries from the index
+     *
+     */
+    public synchronized void clear() {
+        this.nodes.clear();
+        this.root = null;
+    }
+
+    /**
+     *
+     * Gets the number of entries in the index
+     *
+     * @return The size
+     */
+    public synchronized int size() {
+        return size(this.root);
+    }
+
+    /**
+     *
+     * Gets the position of the id, starting from 0. Entries with the same score share
+     * the same position, being the number of entries with a strictly better score
+     *
+     * @param id The id
+     * @return The position, or -1 if the id is not in the index
+     */
+    public synchronized int rank(UUID id) {
+        var target = this.nodes.get(id);
+
+        if (target == null) {
+            return -1;
+        }
+
+        var rank = 0;
+        var current = this.root;
+
+        while (current != null) {
+            if (this.compareScores(current.score, target.score) < 0) {
+                rank += size(current.left) + 1;
+                current = current.right;
+            } else {
+                current = current.left;
+            }
+        }
+
+        return rank;
+    }
+
+    /**
+     *
+     * Gets the score stored for the id
+     *
+     * @param id The id
+     * @return The score, or null if the id is not in the index
+     */
+    public synchronized Double getScore(UUID id) {
+        var node = this.nodes.get(id);
+        return node == null ? null : node.score;
+    }
+
+    /**
+     *
+     * Gets the entries at the given positions in rank order
+     *
+     * @param offset The position of the first entry
+     * @param limit The maximum number of entries
+     * @return The entries
+     */
+    public synchronized List<A> getRange(int offset, int limit) {
+        if (offset < 0 || limit <= 0 || offset >= size(this.root)) {
+            return Collections.emptyList();
+        }
+
+        List<A> entries = new ArrayList<>(Math.min(limit, size(this.root) - offset));
+        this.collect(this.root, offset, limit, entries);
+        return entries;
+    }
+
+    private void collect(Node<A> node, int offset, int limit, List<A> entries) {
+        if (node == null || entries.size() >= limit) {
+            return;
+        }
+
+        var leftSize = size(node.left);
+
+        if (offset < leftSize) {
+            this.collect(node.left, offset, limit, entries);
+        }
+
+        if (entries.size() >= limit) {
+            return;
+        }
+
+        if (offset <= leftSize) {
+            entries.add(node.entry);
+        }
+
+        this.collect(node.right, Math.max(0, offset - leftSize - 1), limit, entries);
+    }
+
+    private Node<A> insert(Node<A> current, Node<A> node) {
+        if (current == null) {
+            return node;
+        }
+
+        if (this.compare(node, current) < 0) {
+            current.left = this.insert(current.left, node);
+
+            if (current.left.priority > current.priority) {
+                current = rotateRight(current);
+            }
+        } else {
+            current.right = this.insert(current.right, node);
+
+            if (current.right.priority > current.priority) {
+                current = rotateLeft(current);
+            }
+        }
+
+        resize(current);
+        return current;
+    }
+
+    private Node<A> remove(Node<A> current, Node<A> node) {
+        if (current == null) {
+            return null;
+        }
+
+        var comparison = this.compare(node, current);
+
+        if (comparison < 0) {
+            current.left = this.remove(current.left, node);
+        } else if (comparison > 0) {
+            current.right = this.remove(current.right, node);
+        } else {
+            return merge(current.left, current.right);
+        }
+
+        resize(current);
+        return current;
+    }
+
+    private int compare(Node<A> a, Node<A> b) {
+        var comparison = this.compareScores(a.score, b.score);
+
+        if (comparison != 0) {
+            return comparison;
+        }
+
+        return a.id.compareTo(b.id);
+    }
+
+    private int compareScores(double a, double b) {
+        var comparison = Double.compare(a, b);
+        return this.order == Order.DESCENDING ? -comparison : comparison;
+    }
+
+    private static <A> Node<A> merge(Node<A> left, Node<A> right) {
+        if (left == null) {
+            return right;
+        }
+
+        if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            resize(left);
+            return left;
+        }
+
+        right.left = merge(left, right.left);
+        resize(right);
+        return right;
+    }
+
+    private static <A> Node<A> rotateRight(Node<A> node) {
+        var left = node.left;
+        node.left = left.right;
+        left.right = node;
+        resize(node);
+        resize(left);
+        return left;
+    }
+
+    private static <A> Node<A> rotateLeft(Node<A> node) {
+        var right = node.right;
+        node.right = right.left;
+        right.left = node;
+        resize(node);
+        resize(right);
+        return right;
+    }
+
+    private static void resize(Node<?> node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static class Node<A> {
+
+        private final UUID id;
+        private final double score;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+
+        private A entry;
+        private int size = 1;
+        private Node<A> left;
+        private Node<A> right;
+
+        private Node(UUID id, double score, A entry) {
+            this.id = id;
+            this.score = score;
+            this.entry = entry;
+        }
+    }
+}
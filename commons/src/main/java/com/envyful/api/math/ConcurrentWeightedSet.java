@@ -0,0 +1,170 @@
+package com.envyful.api.math;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ *
+ * A thread safe set of weighted items that can be randomly selected from according to their weights.
+ * <br>
+ * The items are held in an immutable snapshot alongside a fully built {@link WeightedAliasTable}. Changes copy
+ * the snapshot, build the new table, and then publish it atomically, so draws never lock or wait and always see
+ * a complete set of items. This makes it suitable for rolling rewards from async threads while the set is being
+ * reloaded, where {@link RandomWeightedSet} would need external locking
+ *
+ * @param <A> The type of the items
+ */
+public class ConcurrentWeightedSet<A> {
+
+    private final AtomicReference<Snapshot<A>> snapshot = new AtomicReference<>(Snapshot.empty());
+
+    public ConcurrentWeightedSet() {
+    }
+
+    public ConcurrentWeightedSet(Map<A, Double> weights) {
+        this.replace(weights);
+    }
+
+    /**
+     *
+     * Adds the item with the given weight. Adding an item that is already in the set adds to its weight
+     *
+     * @param a The item
+     * @param weight The weight, items without a positive weight are not added
+     * @return This set
+     */
+    public ConcurrentWeightedSet<A> add(A a, double weight) {
+        if (weight <= 0) {
+            return this;
+        }
+
+        this.update(weights -> {
+            weights.merge(a, weight, Double::sum);
+            return weights;
+        });
+        return this;
+    }
+
+    /**
+     *
+     * Removes the item from the set
+     *
+     * @param a The item
+     */
+    public void remove(A a) {
+        if (!this.snapshot.get().weights.containsKey(a)) {
+            return;
+        }
+
+        this.update(weights -> {
+            weights.remove(a);
+            return weights;
+        });
+    }
+
+    public void clear() {
+        this.snapshot.set(Snapshot.empty());
+    }
+
+    /**
+     *
+     * Atomically replaces every item in the set. Draws made while this is running use the previous items
+     *
+     * @param weights The new items mapped to their weights
+     */
+    public void replace(Map<A, Double> weights) {
+        Map<A, Double> copy = new HashMap<>(weights.size());
+
+        for (var entry : weights.entrySet()) {
+            if (entry.getValue() != null && entry.getValue() > 0) {
+                copy.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        this.snapshot.set(new Snapshot<>(copy));
+    }
+
+    private void update(UnaryOperator<Map<A, Double>> function) {
+        this.snapshot.updateAndGet(current -> new Snapshot<>(function.apply(new HashMap<>(current.weights))));
+    }
+
+    public A getRandom() {
+        return this.snapshot.get().sampler.sample();
+    }
+
+    /**
+     *
+     * Draws the given number of items, with replacement, according to the weights
+     *
+     * @param amount The number of items to draw
+     * @return The items drawn
+     */
+    public List<A> sample(int amount) {
+        return this.snapshot.get().sampler.sample(amount);
+    }
+
+    /**
+     *
+     * Draws up to the given number of distinct items according to the weights
+     *
+     * @param amount The number of items to draw
+     * @return The items drawn, in the order they were drawn
+     */
+    public List<A> sampleWithoutReplacement(int amount) {
+        return this.snapshot.get().sampler.sampleWithoutReplacement(amount);
+    }
+
+    public double getTotalWeight() {
+        return this.snapshot.get().sampler.getTotalWeight();
+    }
+
+    public int size() {
+        return this.snapshot.get().weights.size();
+    }
+
+    public boolean isEmpty() {
+        return this.snapshot.get().weights.isEmpty();
+    }
+
+    /**
+     *
+     * Gets an unmodifiable view of the items and their weights at the time of calling
+     *
+     * @return The items mapped to their weights
+     */
+    public Map<A, Double> getWeights() {
+        return this.snapshot.get().weights;
+    }
+
+    /**
+     *
+     * Gets the table draws are currently being made from
+     *
+     * @return The table
+     */
+    public WeightedAliasTable<A> getSampler() {
+        return this.snapshot.get().sampler;
+    }
+
+    private static final class Snapshot<A> {
+
+        private static final Snapshot<?> EMPTY = new Snapshot<>(Collections.emptyMap());
+
+        private final Map<A, Double> weights;
+        private final WeightedAliasTable<A> sampler;
+
+        private Snapshot(Map<A, Double> weights) {
+            this.weights = Collections.unmodifiableMap(weights);
+            this.sampler = WeightedAliasTable.of(weights);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <A> Snapshot<A> empty() {
+            return (Snapshot<A>) EMPTY;
+        }
+    }
+}
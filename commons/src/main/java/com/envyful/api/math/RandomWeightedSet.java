@@ -1,20 +1,32 @@
 package com.envyful.api.math;
 
+import java.util.AbstractCollection;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.NavigableMap;
-import java.util.TreeMap;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 /**
  *
  * A set of items that have weighted and can be randomly selected from according to said weightings
+ * <br>
+ * Draws go through a {@link WeightedAliasTable} which is built on the first draw after the set changes,
+ * so each draw is O(1) however many items are in the set. Every way of changing the map, including through
+ * its key, value and entry views, discards the table
+ * <br>
+ * Like the {@link HashMap} it extends, the set must not be changed while other threads draw from it.
+ * Use {@link ConcurrentWeightedSet} for sets that are drawn from by async threads
  *
  * @param <A> The type
  */
 public class RandomWeightedSet<A> extends HashMap<A, Double> {
 
-    protected final transient NavigableMap<Double, A> treeMap = new TreeMap<>();
-    protected transient double totalWeight = 0;
+    protected transient volatile WeightedAliasTable<A> sampler = null;
 
     public RandomWeightedSet() {
         super();
@@ -26,34 +38,285 @@ public class RandomWeightedSet<A> extends HashMap<A, Double> {
         this.add(a, weight);
     }
 
+    /**
+     *
+     * Adds the item with the given weight. Adding an item that is already in the set adds to its weight
+     *
+     * @param a The item
+     * @param weight The weight, items without a positive weight are not added
+     * @return This set
+     */
     public RandomWeightedSet<A> add(A a, double weight) {
         if (weight <= 0) {
             return this;
         }
 
-        super.put(a, weight);
-        this.totalWeight += weight;
-        this.treeMap.put(this.totalWeight, a);
+        this.merge(a, weight, Double::sum);
         return this;
     }
 
+    @Override
+    public Double put(A key, Double value) {
+        this.sampler = null;
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends A, ? extends Double> m) {
+        this.sampler = null;
+        super.putAll(m);
+    }
+
+    @Override
+    public Double remove(Object key) {
+        this.sampler = null;
+        return super.remove(key);
+    }
+
     @Override
     public void clear() {
         super.clear();
 
-        this.totalWeight = 0;
-        this.treeMap.clear();
+        this.sampler = null;
+    }
+
+    @Override
+    public Double putIfAbsent(A key, Double value) {
+        this.sampler = null;
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        this.sampler = null;
+        return super.remove(key, value);
+    }
+
+    @Override
+    public boolean replace(A key, Double oldValue, Double newValue) {
+        this.sampler = null;
+        return super.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public Double replace(A key, Double value) {
+        this.sampler = null;
+        return super.replace(key, value);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super A, ? super Double, ? extends Double> function) {
+        this.sampler = null;
+        super.replaceAll(function);
+    }
+
+    @Override
+    public Double computeIfAbsent(A key, Function<? super A, ? extends Double> mappingFunction) {
+        this.sampler = null;
+        return super.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public Double computeIfPresent(A key, BiFunction<? super A, ? super Double, ? extends Double> remappingFunction) {
+        this.sampler = null;
+        return super.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public Double compute(A key, BiFunction<? super A, ? super Double, ? extends Double> remappingFunction) {
+        this.sampler = null;
+        return super.compute(key, remappingFunction);
+    }
+
+    @Override
+    public Double merge(A key, Double value, BiFunction<? super Double, ? super Double, ? extends Double> remappingFunction) {
+        this.sampler = null;
+        return super.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public Set<A> keySet() {
+        return new ResettingSet<>(super.keySet(), UnaryOperator.identity());
+    }
+
+    @Override
+    public Collection<Double> values() {
+        return new ResettingCollection<>(super.values(), UnaryOperator.identity());
+    }
+
+    @Override
+    public Set<Map.Entry<A, Double>> entrySet() {
+        return new ResettingSet<>(super.entrySet(), ResettingEntry::new);
     }
 
     public A getRandom() {
-        if (this.isEmpty()) {
-            return null;
-        }
+        return this.getSampler().sample();
+    }
+
+    /**
+     *
+     * Draws the given number of items, with replacement, according to the weights
+     *
+     * @param amount The number of items to draw
+     * @return The items drawn
+     */
+    public List<A> sample(int amount) {
+        return this.getSampler().sample(amount);
+    }
 
-        return this.treeMap.get(this.treeMap.ceilingKey(ThreadLocalRandom.current().nextDouble() * this.totalWeight));
+    /**
+     *
+     * Draws up to the given number of distinct items according to the weights
+     *
+     * @param amount The number of items to draw
+     * @return The items drawn, in the order they were drawn
+     */
+    public List<A> sampleWithoutReplacement(int amount) {
+        return this.getSampler().sampleWithoutReplacement(amount);
     }
 
     public double getTotalWeight() {
-        return this.totalWeight;
+        return this.getSampler().getTotalWeight();
+    }
+
+    /**
+     *
+     * Gets the table draws are made from, building it if the set has changed since it was last built
+     *
+     * @return The table
+     */
+    public WeightedAliasTable<A> getSampler() {
+        var sampler = this.sampler;
+
+        if (sampler == null) {
+            sampler = WeightedAliasTable.of(this);
+            this.sampler = sampler;
+        }
+
+        return sampler;
+    }
+
+    /**
+     *
+     * A view of the map that discards the table when items are removed through it
+     *
+     * @param <E> The type of the elements
+     */
+    private class ResettingCollection<E> extends AbstractCollection<E> {
+
+        protected final Collection<E> delegate;
+        private final UnaryOperator<E> wrapper;
+
+        private ResettingCollection(Collection<E> delegate, UnaryOperator<E> wrapper) {
+            this.delegate = delegate;
+            this.wrapper = wrapper;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            var iterator = this.delegate.iterator();
+
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public E next() {
+                    return wrapper.apply(iterator.next());
+                }
+
+                @Override
+                public void remove() {
+                    RandomWeightedSet.this.sampler = null;
+                    iterator.remove();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return this.delegate.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return this.delegate.contains(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            RandomWeightedSet.this.sampler = null;
+            return this.delegate.remove(o);
+        }
+
+        @Override
+        public void clear() {
+            RandomWeightedSet.this.sampler = null;
+            this.delegate.clear();
+        }
+    }
+
+    private class ResettingSet<E> extends ResettingCollection<E> implements Set<E> {
+
+        private ResettingSet(Set<E> delegate, UnaryOperator<E> wrapper) {
+            super(delegate, wrapper);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o == this || this.delegate.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.delegate.hashCode();
+        }
+    }
+
+    /**
+     *
+     * An entry of the map that discards the table when its weight is changed
+     *
+     */
+    private class ResettingEntry implements Map.Entry<A, Double> {
+
+        private final Map.Entry<A, Double> delegate;
+
+        private ResettingEntry(Map.Entry<A, Double> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public A getKey() {
+            return this.delegate.getKey();
+        }
+
+        @Override
+        public Double getValue() {
+            return this.delegate.getValue();
+        }
+
+        @Override
+        public Double setValue(Double value) {
+            RandomWeightedSet.this.sampler = null;
+            return this.delegate.setValue(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this.delegate.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.delegate.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return this.delegate.toString();
+        }
     }
 }
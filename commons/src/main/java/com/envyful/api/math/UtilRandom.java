@@ -2,7 +2,6 @@ package com.envyful.api.math;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.util.AbstractMap;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -116,6 +115,7 @@ public class UtilRandom {
     /**
      *
      * Gets a random element from the map using the weights provided for higher chances for given elements.
+     * Elements without a positive weight are never selected
      *
      * @param weights The map of elements with their given weights
      * @param defaultValue The default value to return if none is selected
@@ -123,11 +123,42 @@ public class UtilRandom {
      * @return The randomly selected element
      */
     public static <T> T pickRandomWeighted(Map<T, Double> weights, T defaultValue) {
-        return weights.entrySet().stream()
-                .map(entry -> new AbstractMap.SimpleEntry<>(entry.getKey(), -Math.log(ThreadLocalRandom.current().nextDouble()) / entry.getValue()))
-                .min(Map.Entry.comparingByValue())
-                .map(AbstractMap.SimpleEntry::getKey)
-                .orElse(defaultValue);
+        if (weights instanceof RandomWeightedSet) {
+            var selected = ((RandomWeightedSet<T>) weights).getRandom();
+            return selected == null ? defaultValue : selected;
+        }
+
+        var totalWeight = 0.0;
+
+        for (var weight : weights.values()) {
+            if (weight != null && weight > 0) {
+                totalWeight += weight;
+            }
+        }
+
+        if (!(totalWeight > 0)) {
+            return defaultValue;
+        }
+
+        var remaining = ThreadLocalRandom.current().nextDouble() * totalWeight;
+        T last = defaultValue;
+
+        for (var entry : weights.entrySet()) {
+            var weight = entry.getValue();
+
+            if (weight == null || weight <= 0) {
+                continue;
+            }
+
+            last = entry.getKey();
+            remaining -= weight;
+
+            if (remaining < 0) {
+                return last;
+            }
+        }
+
+        return last;
     }
 
     /**
@@ -0,0 +1,229 @@
+package com.envyful.api.math;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ *
+ * An immutable table for drawing weighted random items in constant time using Vose's alias method.
+ * <br>
+ * Building the table is O(n), after which every draw is a single random number and two array lookups
+ * regardless of the number of items. Items with a weight that isn't positive are ignored
+ *
+ * @param <A> The type of the items
+ */
+public final class WeightedAliasTable<A> {
+
+    private static final WeightedAliasTable<?> EMPTY = new WeightedAliasTable<>(new Object[0], new double[0]);
+
+    private final Object[] items;
+    private final double[] weights;
+    private final double[] probability;
+    private final int[] alias;
+    private final double totalWeight;
+
+    private WeightedAliasTable(Object[] items, double[] weights) {
+        this.items = items;
+        this.weights = weights;
+        this.probability = new double[items.length];
+        this.alias = new int[items.length];
+
+        var total = 0.0;
+
+        for (var weight : weights) {
+            total += weight;
+        }
+
+        this.totalWeight = total;
+        this.build();
+    }
+
+    private void build() {
+        var size = this.items.length;
+        var scaled = new double[size];
+        var small = new int[size];
+        var large = new int[size];
+        var smallCount = 0;
+        var largeCount = 0;
+
+        for (int i = 0; i < size; i++) {
+            scaled[i] = (this.weights[i] * size) / this.totalWeight;
+
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            var less = small[--smallCount];
+            var more = large[--largeCount];
+
+            this.probability[less] = scaled[less];
+            this.alias[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // Anything left over is only short of 1 due to floating point error
+        while (largeCount > 0) {
+            this.probability[large[--largeCount]] = 1.0;
+        }
+
+        while (smallCount > 0) {
+            this.probability[small[--smallCount]] = 1.0;
+        }
+    }
+
+    /**
+     *
+     * Creates a table from the items and their weights
+     *
+     * @param weights The items mapped to their weights
+     * @return The table
+     * @param <A> The type of the items
+     */
+    public static <A> WeightedAliasTable<A> of(Map<A, Double> weights) {
+        var items = new Object[weights.size()];
+        var itemWeights = new double[weights.size()];
+        var size = 0;
+
+        for (var entry : weights.entrySet()) {
+            var weight = entry.getValue();
+
+            if (weight == null || !(weight > 0) || Double.isInfinite(weight)) {
+                continue;
+            }
+
+            items[size] = entry.getKey();
+            itemWeights[size] = weight;
+            ++size;
+        }
+
+        if (size == 0) {
+            return empty();
+        }
+
+        return new WeightedAliasTable<>(Arrays.copyOf(items, size), Arrays.copyOf(itemWeights, size));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> WeightedAliasTable<A> empty() {
+        return (WeightedAliasTable<A>) EMPTY;
+    }
+
+    /**
+     *
+     * Draws a random item according to the weights
+     *
+     * @return The item, or null if the table is empty
+     */
+    public A sample() {
+        return this.sample(ThreadLocalRandom.current());
+    }
+
+    /**
+     *
+     * Draws a random item according to the weights using the given source of randomness
+     *
+     * @param random The random
+     * @return The item, or null if the table is empty
+     */
+    @SuppressWarnings("unchecked")
+    public A sample(Random random) {
+        if (this.items.length == 0) {
+            return null;
+        }
+
+        var scaled = random.nextDouble() * this.items.length;
+        var column = Math.min((int) scaled, this.items.length - 1);
+
+        if ((scaled - column) < this.probability[column]) {
+            return (A) this.items[column];
+        }
+
+        return (A) this.items[this.alias[column]];
+    }
+
+    /**
+     *
+     * Draws the given number of items, with replacement, according to the weights
+     *
+     * @param amount The number of items to draw
+     * @return The items drawn
+     */
+    public List<A> sample(int amount) {
+        if (amount <= 0 || this.items.length == 0) {
+            return Collections.emptyList();
+        }
+
+        var random = ThreadLocalRandom.current();
+        List<A> drawn = new ArrayList<>(amount);
+
+        for (int i = 0; i < amount; i++) {
+            drawn.add(this.sample(random));
+        }
+
+        return drawn;
+    }
+
+    /**
+     *
+     * Draws up to the given number of distinct items according to the weights. Each item drawn is removed from
+     * the pool for the following draws, so higher weighted items are more likely to be drawn earlier
+     *
+     * @param amount The number of items to draw
+     * @return The items drawn, in the order they were drawn
+     */
+    @SuppressWarnings("unchecked")
+    public List<A> sampleWithoutReplacement(int amount) {
+        if (amount <= 0 || this.items.length == 0) {
+            return Collections.emptyList();
+        }
+
+        var random = ThreadLocalRandom.current();
+        var keys = new double[this.items.length];
+        var order = new Integer[this.items.length];
+
+        // Efraimidis-Spirakis: ordering by exponential keys is the same as repeatedly drawing without replacement
+        for (int i = 0; i < this.items.length; i++) {
+            keys[i] = -Math.log(1.0 - random.nextDouble()) / this.weights[i];
+            order[i] = i;
+        }
+
+        Arrays.sort(order, (a, b) -> Double.compare(keys[a], keys[b]));
+
+        var size = Math.min(amount, this.items.length);
+        List<A> drawn = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            drawn.add((A) this.items[order[i]]);
+        }
+
+        return drawn;
+    }
+
+    public int size() {
+        return this.items.length;
+    }
+
+    public boolean isEmpty() {
+        return this.items.length == 0;
+    }
+
+    public double getTotalWeight() {
+        return this.totalWeight;
+    }
+}
@@ -1,5 +1,7 @@
 package com.envyful.api.platform;
 
+import com.envyful.api.concurrency.tick.SyncPriority;
+import com.envyful.api.concurrency.tick.SyncTaskQueue;
 import com.envyful.api.config.ConfigToast;
 import com.envyful.api.config.type.ConfigItem;
 import com.envyful.api.player.EnvyPlayer;
@@ -74,6 +76,29 @@ public interface PlatformHandler<A> {
      */
     void runSync(Runnable runnable);
 
+    /**
+     *
+     * Execute a runnable on the main server's thread with the given priority.
+     * Platforms that queue sync tasks with a per tick budget run higher priority tasks first.
+     * When called from the server thread the runnable is run straight away
+     *
+     * @param runnable The runnable to execute
+     * @param priority The priority of the runnable
+     */
+    default void runSync(Runnable runnable, SyncPriority priority) {
+        this.runSync(runnable);
+    }
+
+    /**
+     *
+     * Gets the queue sync tasks are run through, for its metrics and tick budget
+     *
+     * @return The queue, or null if this platform doesn't queue sync tasks
+     */
+    default SyncTaskQueue getSyncTaskQueue() {
+        return null;
+    }
+
     /**
      *
      * Execute a runnable on the main server's thread after a delay
@@ -1,6 +1,8 @@
 package com.envyful.api.platform;
 
 import com.envyful.api.concurrency.UtilLogger;
+import com.envyful.api.concurrency.tick.SyncPriority;
+import com.envyful.api.concurrency.tick.SyncTaskQueue;
 import com.envyful.api.config.ConfigToast;
 import com.envyful.api.config.database.DatabaseDetailsRegistry;
 import com.envyful.api.config.type.ConfigItem;
@@ -298,6 +300,36 @@ public class PlatformProxy {
         handler.runSync(runnable);
     }
 
+    /**
+     *
+     * Runs the task on the platform's main thread with the given priority
+     *
+     * @param runnable The task to run
+     * @param priority The priority of the task
+     */
+    public static void runSync(Runnable runnable, SyncPriority priority) {
+        if (handler == null) {
+            UtilLogger.getLogger().error("No platform handler set but runSync was called");
+            return;
+        }
+
+        handler.runSync(runnable, priority);
+    }
+
+    /**
+     *
+     * Gets the queue the platform runs sync tasks through
+     *
+     * @return The queue, or null if the platform doesn't queue sync tasks
+     */
+    public static SyncTaskQueue getSyncTaskQueue() {
+        if (handler == null) {
+            return null;
+        }
+
+        return handler.getSyncTaskQueue();
+    }
+
     /**
      *
      * Runs a task after the given interval (in ticks) on the platform's main thread
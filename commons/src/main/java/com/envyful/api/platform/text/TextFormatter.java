@@ -2,6 +2,7 @@ package com.envyful.api.platform.text;
 
 import com.envyful.api.text.Placeholder;
 import com.envyful.api.text.PlaceholderFactory;
+import com.envyful.api.type.cache.CacheStats;
 
 import java.util.Collection;
 import java.util.List;
@@ -20,6 +21,13 @@ import java.util.List;
  */
 public interface TextFormatter<T> {
 
+    /**
+     *
+     * The stats returned by formatters that don't cache their parsed text
+     *
+     */
+    CacheStats NO_CACHE_STATS = new CacheStats();
+
     /**
      *
      * The default text formatter that does not convert the text.
@@ -111,6 +119,17 @@ public interface TextFormatter<T> {
      */
     String strip(String text);
 
+    /**
+     *
+     * Gets the usage statistics of the cache of parsed text, if the formatter has one.
+     * Formatters without a cache return stats that are never updated
+     *
+     * @return The stats
+     */
+    default CacheStats getCacheStats() {
+        return NO_CACHE_STATS;
+    }
+
     /**
      *
      * Gets the default text formatter that does not convert the text
@@ -42,6 +42,21 @@ public interface Attribute {
         return true;
     }
 
+    /**
+     *
+     * Gets a value that changes whenever the data saved by this attribute changes, such as a
+     * counter incremented by every setter or a hash of the saved fields.
+     * <br>
+     * The version is captured when the attribute is loaded and after each save triggered by a
+     * save trigger, and the trigger skips the attribute while the version is unchanged.
+     * Returning a negative value (the default) opts out of this so the attribute is always saved
+     *
+     * @return The version, or a negative value if not tracked
+     */
+    default long getVersion() {
+        return -1;
+    }
+
     /**
      *
      * This method is called when all the registered attributes have finished their
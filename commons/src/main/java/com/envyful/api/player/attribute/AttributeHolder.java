@@ -100,6 +100,30 @@ public interface AttributeHolder extends Identifiable {
      */
     <A extends Attribute> A getAttributeNow(Class<A> attributeClass);
 
+    /**
+     *
+     * Checks if the attribute has changed since it was loaded or last saved
+     * <br>
+     * See {@link Attribute#getVersion()} for how attributes opt in to this
+     *
+     * @param attributeClass The attribute class
+     * @return True if the attribute needs saving
+     * @param <A> The attribute type
+     */
+    default <A extends Attribute> boolean isAttributeDirty(Class<A> attributeClass) {
+        return true;
+    }
+
+    /**
+     *
+     * Records that the attribute has been saved at the given version
+     *
+     * @param attributeClass The attribute class
+     * @param version The version that was saved
+     * @param <A> The attribute type
+     */
+    default <A extends Attribute> void markAttributeSaved(Class<A> attributeClass, long version) {}
+
     /**
      *
      * Sets the attribute for the player
@@ -10,10 +10,12 @@ public class AttributeInstance<A extends Attribute> {
 
     private A attribute;
     private CompletableFuture<A> loadingAttribute;
+    private volatile long savedVersion = -1;
 
     public AttributeInstance(A attribute) {
         this.attribute = attribute;
         this.loadingAttribute = null;
+        this.savedVersion = attribute.getVersion();
     }
 
     public AttributeInstance(CompletableFuture<A> loadingAttribute) {
@@ -24,6 +26,10 @@ public class AttributeInstance<A extends Attribute> {
             } else {
                 this.attribute = a;
                 this.loadingAttribute = null;
+
+                if (a != null) {
+                    this.savedVersion = a.getVersion();
+                }
             }
         });
     }
@@ -36,4 +42,32 @@ public class AttributeInstance<A extends Attribute> {
     public A getAttributeNow() {
         return this.attribute;
     }
+
+    /**
+     *
+     * Checks if the attribute has changed since it was loaded or last saved
+     * <br>
+     * Attributes that don't track their version are always dirty
+     *
+     * @return True if the attribute needs saving
+     */
+    public boolean isDirty() {
+        if (this.attribute == null) {
+            return false;
+        }
+
+        var version = this.attribute.getVersion();
+
+        return version < 0 || version != this.savedVersion;
+    }
+
+    /**
+     *
+     * Records that the attribute has been saved at the given version
+     *
+     * @param version The version that was saved
+     */
+    public void markSaved(long version) {
+        this.savedVersion = version;
+    }
 }
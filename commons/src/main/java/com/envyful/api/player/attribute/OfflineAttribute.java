@@ -9,7 +9,11 @@ import com.envyful.api.text.Placeholder;
 import com.envyful.api.text.parse.SimplePlaceholder;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -44,6 +48,14 @@ public class OfflineAttribute<B extends Attribute> implements SimplePlaceholder,
         this.loadingAttribute = PlatformProxy.getPlayerManager().loadAttribute(attributeClass, this.id).thenApply(b -> this.cachedAttribute = b);
     }
 
+    private OfflineAttribute(Class<B> attributeClass, UUID uuid, String name, UUID id, CompletableFuture<B> loadingAttribute) {
+        this.attributeClass = attributeClass;
+        this.uuid = uuid;
+        this.name = name;
+        this.id = id;
+        this.loadingAttribute = loadingAttribute.thenApply(b -> this.cachedAttribute = b);
+    }
+
     private OfflineAttribute(Class<B> attributeClass, EnvyPlayer<?> player) {
         this.attributeClass = attributeClass;
         this.uuid = player.getUniqueId();
@@ -118,7 +130,7 @@ public class OfflineAttribute<B extends Attribute> implements SimplePlaceholder,
             return;
         }
 
-        UtilConcurrency.runAsync(() -> PlatformProxy.getPlayerManager().saveAttribute(this.getAttribute()));
+        UtilConcurrency.runIO(() -> PlatformProxy.getPlayerManager().saveAttribute(this.getAttribute()));
     }
 
 
@@ -189,4 +201,72 @@ public class OfflineAttribute<B extends Attribute> implements SimplePlaceholder,
 
         return new OfflineAttribute<>(attributeClass, uuid, name);
     }
+
+    /**
+     *
+     * Attempts to load the attribute for each of the (potentially) offline players based on their username
+     * <br>
+     * The attributes of the offline players are loaded together using {@link com.envyful.api.player.attribute.manager.AttributeManager#loadAttributes(Class, Collection)}
+     * rather than one query per player. Names that cannot be found are left out of the returned list
+     * <br>
+     * Remember that this method is blocking and should be run asynchronously
+     *
+     * @param attributeClass The class of the attribute
+     * @param names The names of the players
+     * @return The attributes, in the same order as the names
+     * @param <Y> The type of the attribute class
+     */
+    public static <Y extends Attribute> List<OfflineAttribute<Y>> fromNames(Class<Y> attributeClass, Collection<String> names) {
+        var playerManager = PlatformProxy.getPlayerManager();
+        Map<String, OfflineAttribute<Y>> online = new LinkedHashMap<>();
+        Map<String, UUID> offline = new LinkedHashMap<>();
+        Map<String, UUID> offlineIds = new LinkedHashMap<>();
+
+        for (var name : names) {
+            var player = playerManager.getOnlinePlayer(name);
+
+            if (player != null) {
+                online.put(name, new OfflineAttribute<>(attributeClass, player));
+                continue;
+            }
+
+            var uuid = playerManager.getNameStore().getUUID(name).join();
+
+            if (uuid == null) {
+                continue;
+            }
+
+            var id = playerManager.mapId(attributeClass, uuid);
+
+            if (id == null) {
+                throw new IllegalArgumentException("No id found for " + uuid + " of type " + attributeClass.getSimpleName());
+            }
+
+            offline.put(name, uuid);
+            offlineIds.put(name, id);
+        }
+
+        Map<UUID, CompletableFuture<Y>> loading = playerManager.loadAttributes(attributeClass, offlineIds.values());
+        List<OfflineAttribute<Y>> attributes = new ArrayList<>();
+
+        for (var name : names) {
+            var onlineAttribute = online.get(name);
+
+            if (onlineAttribute != null) {
+                attributes.add(onlineAttribute);
+                continue;
+            }
+
+            var uuid = offline.get(name);
+
+            if (uuid == null) {
+                continue;
+            }
+
+            var id = offlineIds.get(name);
+            attributes.add(new OfflineAttribute<>(attributeClass, uuid, name, id, loading.get(id)));
+        }
+
+        return attributes;
+    }
 }
@@ -2,6 +2,7 @@ package com.envyful.api.player.attribute.adapter;
 
 import com.envyful.api.player.Attribute;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -20,6 +21,26 @@ public interface AttributeAdapter<A extends Attribute> {
      */
     CompletableFuture<Void> save(A attribute);
 
+    /**
+     *
+     * Saves all the attributes, used when flushing an {@link com.envyful.api.player.attribute.manager.AttributeSaveQueue}
+     * <br>
+     * By default this saves each attribute individually. {@link SQLAttributeAdapter} overrides this to
+     * send the whole list as JDBC batches
+     *
+     * @param attributes The attributes being saved
+     * @return The future completed once all the attributes have been saved
+     */
+    default CompletableFuture<Void> saveAll(List<A> attributes) {
+        var futures = new CompletableFuture[attributes.size()];
+
+        for (int i = 0; i < attributes.size(); i++) {
+            futures[i] = this.save(attributes.get(i));
+        }
+
+        return CompletableFuture.allOf(futures);
+    }
+
     /**
      *
      * Loads the attribute
@@ -28,6 +49,22 @@ public interface AttributeAdapter<A extends Attribute> {
      */
     void load(A attribute);
 
+    /**
+     *
+     * Loads all the attributes, used when attributes are requested in bulk through
+     * {@link com.envyful.api.player.attribute.manager.AttributeManager#loadAttributes(Class, java.util.Collection)}
+     * <br>
+     * By default this loads each attribute individually. SQL backed adapters should override this
+     * to load every attribute with a single {@code WHERE id IN (...)} query
+     *
+     * @param attributes The attributes being loaded
+     */
+    default void loadAll(List<A> attributes) {
+        for (var attribute : attributes) {
+            this.load(attribute);
+        }
+    }
+
     /**
      *
      * Deletes the attribute
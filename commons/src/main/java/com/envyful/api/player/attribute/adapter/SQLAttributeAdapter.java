@@ -0,0 +1,76 @@
+package com.envyful.api.player.attribute.adapter;
+
+import com.envyful.api.concurrency.UtilConcurrency;
+import com.envyful.api.database.Database;
+import com.envyful.api.database.sql.UtilSql;
+import com.envyful.api.player.Attribute;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ *
+ * A base for adapters that save attributes to an SQL table with a single statement per attribute,
+ * such as one from {@link Database#getUpsertSQL(String, String, String...)}
+ * <br>
+ * Saves go through {@link UtilSql#executeStreamingBatch} so a flush of an
+ * {@link com.envyful.api.player.attribute.manager.AttributeSaveQueue} is sent as JDBC batches
+ * of the configured size rather than one statement at a time
+ *
+ * @param <A> The attribute type
+ */
+public abstract class SQLAttributeAdapter<A extends Attribute> implements AttributeAdapter<A> {
+
+    protected final Database database;
+    protected final int batchSize;
+
+    protected SQLAttributeAdapter(Database database) {
+        this(database, 500);
+    }
+
+    protected SQLAttributeAdapter(Database database, int batchSize) {
+        this.database = database;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     *
+     * Gets the statement that saves a single attribute
+     *
+     * @return The save statement
+     */
+    protected abstract String getSaveSQL();
+
+    /**
+     *
+     * Sets the parameters of the save statement for the attribute
+     *
+     * @param attribute The attribute being saved
+     * @param statement The save statement
+     * @throws SQLException any errors that occur
+     */
+    protected abstract void bindSave(A attribute, PreparedStatement statement) throws SQLException;
+
+    @Override
+    public CompletableFuture<Void> save(A attribute) {
+        return this.saveAll(List.of(attribute));
+    }
+
+    @Override
+    public CompletableFuture<Void> saveAll(List<A> attributes) {
+        if (attributes.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return CompletableFuture.runAsync(() -> {
+            var result = UtilSql.executeStreamingBatch(this.database, this.getSaveSQL(), attributes.iterator(),
+                    this::bindSave, this.batchSize, null);
+
+            if (!result.isSuccessful()) {
+                throw new IllegalStateException("Failed to save " + attributes.size() + " attributes after " + result.getRows() + " rows");
+            }
+        }, UtilConcurrency.getIOPool());
+    }
+}
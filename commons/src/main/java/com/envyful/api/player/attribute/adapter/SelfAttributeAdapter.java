@@ -15,7 +15,7 @@ public interface SelfAttributeAdapter extends AttributeAdapter<SelfAttributeAdap
 
     @Override
     default CompletableFuture<Void> save(SelfAttributeAdapter attribute) {
-        return UtilConcurrency.runAsync(this::save);
+        return UtilConcurrency.runIO(this::save);
     }
 
     void save();
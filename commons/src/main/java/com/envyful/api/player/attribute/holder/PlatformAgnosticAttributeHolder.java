@@ -74,6 +74,22 @@ public abstract class PlatformAgnosticAttributeHolder implements AttributeHolder
         return attributes;
     }
 
+    @Override
+    public <A extends Attribute> boolean isAttributeDirty(Class<A> attributeClass) {
+        var instance = this.attributes.get(attributeClass);
+
+        return instance != null && instance.isDirty();
+    }
+
+    @Override
+    public <A extends Attribute> void markAttributeSaved(Class<A> attributeClass, long version) {
+        var instance = this.attributes.get(attributeClass);
+
+        if (instance != null) {
+            instance.markSaved(version);
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <A extends Attribute> A removeAttribute(Class<A> attributeClass) {
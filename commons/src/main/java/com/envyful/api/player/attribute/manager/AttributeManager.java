@@ -12,7 +12,10 @@ import com.envyful.api.player.attribute.trigger.ClearAttributeTrigger;
 import com.envyful.api.player.attribute.trigger.SaveAttributeTrigger;
 import com.envyful.api.player.attribute.trigger.SetAttributeTrigger;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -30,6 +33,27 @@ public interface AttributeManager<A extends AttributeHolder> {
      */
     <X extends Attribute> CompletableFuture<X> loadAttribute(Class<? extends X> attributeClass, UUID id);
 
+    /**
+     * Loads the data for the attribute for each of the given ids
+     * <br>
+     * Implementations should load all the ids together where the adapter supports it,
+     * by default each id is loaded individually using {@link #loadAttribute(Class, UUID)}
+     *
+     * @param attributeClass The class of the attribute
+     * @param ids            The ids to load the data using
+     * @param <X>            The attribute type
+     * @return The attribute instances mapped by their id
+     */
+    default <X extends Attribute> Map<UUID, CompletableFuture<X>> loadAttributes(Class<? extends X> attributeClass, Collection<UUID> ids) {
+        Map<UUID, CompletableFuture<X>> attributes = new LinkedHashMap<>();
+
+        for (var id : ids) {
+            attributes.computeIfAbsent(id, __ -> this.loadAttribute(attributeClass, id));
+        }
+
+        return attributes;
+    }
+
     /**
      * Saves the given attribute
      *
@@ -0,0 +1,277 @@
+package com.envyful.api.player.attribute.manager;
+
+import com.envyful.api.concurrency.UtilConcurrency;
+import com.envyful.api.concurrency.UtilLogger;
+import com.envyful.api.player.Attribute;
+import com.envyful.api.player.attribute.adapter.AttributeAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ *
+ * A write-behind queue for attribute saves.
+ * <br>
+ * Rather than each save being sent to its {@link AttributeAdapter} straight away, saves are held per adapter
+ * and flushed periodically through {@link AttributeAdapter#saveAll(List)} in batches. Saving the same attribute
+ * again before it has been flushed replaces the pending save rather than adding another one
+ * <br>
+ * The configured maximum bounds the saves that are queued or still being written. Once it is reached the thread
+ * adding a new save flushes the queue and waits, for up to the configured time, for earlier saves to complete.
+ * If there is still no room the save is sent straight to its adapter, so the queue never grows past the maximum
+ * <br>
+ * Once {@link #shutdown()} has been called any remaining saves are flushed on the IO pool and later saves go
+ * straight to the adapter
+ *
+ */
+public class AttributeSaveQueue {
+
+    private final int batchSize;
+    private final int maxPending;
+    private final Map<AttributeAdapter<?>, Map<UUID, PendingSave>> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final Object capacity = new Object();
+    private final long maxWait;
+    private final ScheduledFuture<?> flushTask;
+
+    private volatile boolean shutdown = false;
+
+    private AttributeSaveQueue(Builder builder) {
+        this.batchSize = builder.batchSize;
+        this.maxPending = builder.maxPending;
+        this.maxWait = builder.maxWait;
+        this.flushTask = UtilConcurrency.SCHEDULED_EXECUTOR_SERVICE.scheduleWithFixedDelay(
+                this::flush, builder.flushInterval, builder.flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     *
+     * Queues the attribute to be saved by the adapter
+     *
+     * @param adapter The adapter to save the attribute with
+     * @param attribute The attribute
+     * @return A future completed once the attribute has been saved
+     * @param <X> The attribute type
+     */
+    public <X extends Attribute> CompletableFuture<Void> enqueue(AttributeAdapter<X> adapter, X attribute) {
+        if (this.shutdown) {
+            return adapter.save(attribute);
+        }
+
+        var saves = this.pending.computeIfAbsent(adapter, __ -> new ConcurrentHashMap<>());
+
+        if (!saves.containsKey(attribute.getUniqueId()) && !this.awaitCapacity()) {
+            return adapter.save(attribute);
+        }
+
+        var save = saves.compute(attribute.getUniqueId(), (uuid, existing) -> {
+            if (existing == null) {
+                this.pendingCount.incrementAndGet();
+                this.outstanding.incrementAndGet();
+                return new PendingSave(attribute);
+            }
+
+            existing.attribute = attribute;
+            return existing;
+        });
+
+        return save.future;
+    }
+
+    /**
+     *
+     * Sends every pending save to its adapter
+     *
+     * @return A future completed once all the flushed saves have completed
+     */
+    public CompletableFuture<Void> flush() {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (var entry : this.pending.entrySet()) {
+            this.flush(entry.getKey(), entry.getValue(), futures);
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     *
+     * Stops the periodic flush, flushes all the pending saves, and sends any later saves
+     * straight to their adapter
+     *
+     * @return A future completed once all the pending saves have completed
+     */
+    public CompletableFuture<Void> shutdown() {
+        this.shutdown = true;
+        this.flushTask.cancel(false);
+
+        synchronized (this.capacity) {
+            this.capacity.notifyAll();
+        }
+
+        return CompletableFuture.supplyAsync(this::flush, UtilConcurrency.getIOPool()).thenCompose(future -> future);
+    }
+
+    /**
+     *
+     * Gets the number of saves waiting to be flushed
+     *
+     * @return The pending save count
+     */
+    public int getPendingCount() {
+        return this.pendingCount.get();
+    }
+
+    private boolean awaitCapacity() {
+        if (this.outstanding.get() < this.maxPending) {
+            return true;
+        }
+
+        this.flush();
+
+        var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.maxWait);
+
+        synchronized (this.capacity) {
+            while (this.outstanding.get() >= this.maxPending && !this.shutdown) {
+                var remaining = deadline - System.nanoTime();
+
+                if (remaining <= 0) {
+                    return false;
+                }
+
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(this.capacity, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+
+        return !this.shutdown;
+    }
+
+    private void release(int saves) {
+        this.outstanding.addAndGet(-saves);
+
+        synchronized (this.capacity) {
+            this.capacity.notifyAll();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <X extends Attribute> void flush(AttributeAdapter<X> adapter, Map<UUID, PendingSave> saves,
+                                             List<CompletableFuture<Void>> futures) {
+        while (!saves.isEmpty()) {
+            List<X> batch = new ArrayList<>(this.batchSize);
+            List<CompletableFuture<Void>> callbacks = new ArrayList<>(this.batchSize);
+            var iterator = saves.keySet().iterator();
+
+            while (iterator.hasNext() && batch.size() < this.batchSize) {
+                var save = saves.remove(iterator.next());
+
+                if (save == null) {
+                    continue;
+                }
+
+                this.pendingCount.decrementAndGet();
+                batch.add((X) save.attribute);
+                callbacks.add(save.future);
+            }
+
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            CompletableFuture<Void> future;
+
+            try {
+                future = adapter.saveAll(batch);
+            } catch (Exception e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+
+            futures.add(future.whenComplete((unused, throwable) -> {
+                this.release(callbacks.size());
+
+                if (throwable != null) {
+                    UtilLogger.getLogger().error("Failed to save batch of " + batch.size() + " attributes", throwable);
+                }
+
+                for (var callback : callbacks) {
+                    if (throwable == null) {
+                        callback.complete(null);
+                    } else {
+                        callback.completeExceptionally(throwable);
+                    }
+                }
+            }));
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private static class PendingSave {
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private volatile Attribute attribute;
+
+        private PendingSave(Attribute attribute) {
+            this.attribute = attribute;
+        }
+    }
+
+    public static class Builder {
+
+        private int batchSize = 100;
+        private int maxPending = 5000;
+        private long flushInterval = TimeUnit.SECONDS.toMillis(5);
+        private long maxWait = TimeUnit.SECONDS.toMillis(5);
+
+        Builder() {}
+
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder maxPending(int maxPending) {
+            this.maxPending = maxPending;
+            return this;
+        }
+
+        public Builder flushInterval(long flushInterval, TimeUnit timeUnit) {
+            this.flushInterval = timeUnit.toMillis(flushInterval);
+            return this;
+        }
+
+        /**
+         *
+         * Sets how long a thread adding a save waits for room in a full queue before
+         * sending the save straight to its adapter
+         *
+         * @param maxWait The maximum wait
+         * @param timeUnit The unit of the wait
+         * @return The builder
+         */
+        public Builder maxWait(long maxWait, TimeUnit timeUnit) {
+            this.maxWait = timeUnit.toMillis(maxWait);
+            return this;
+        }
+
+        public AttributeSaveQueue build() {
+            return new AttributeSaveQueue(this);
+        }
+    }
+}
@@ -10,13 +10,22 @@ import com.envyful.api.player.attribute.data.AttributeData;
 import com.envyful.api.player.attribute.trigger.ClearAttributeTrigger;
 import com.envyful.api.player.attribute.trigger.SaveAttributeTrigger;
 import com.envyful.api.player.attribute.trigger.SetAttributeTrigger;
+import com.envyful.api.type.Pair;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -33,11 +42,15 @@ public abstract class PlatformAgnosticAttributeManager<A extends AttributeHolder
     protected final Map<Class<? extends Attribute>, AttributeData<?, A>> attributeData = new ConcurrentHashMap<>();
     protected final Map<Class<? extends Attribute>, Map<UUID, Attribute>> sharedAttributes = new ConcurrentHashMap<>();
     protected final Map<Class<? extends Attribute>, String> attributeSaveModes = new ConcurrentHashMap<>();
+    protected final Map<Pair<Class<? extends Attribute>, UUID>, CompletableFuture<Attribute>> loadingSharedAttributes = new ConcurrentHashMap<>();
+    protected final LongAdder sharedLoads = new LongAdder();
+    protected final LongAdder coalescedSharedLoads = new LongAdder();
 
     protected final Map<Class<?>, AttributeTrigger<A>> triggersByEvent = new ConcurrentHashMap<>();
     protected final Map<Class<?>, Supplier<AttributeTrigger<A>>> registeredTriggers = new ConcurrentHashMap<>();
 
     protected String globalSaveMode;
+    protected AttributeSaveQueue saveQueue;
     protected BiConsumer<UUID, Throwable> errorHandler = (a, throwable) -> UtilLogger.getLogger().error("Failed to load attribute for id " + a.toString(), throwable);
 
     protected PlatformAgnosticAttributeManager() {
@@ -55,28 +68,138 @@ public abstract class PlatformAgnosticAttributeManager<A extends AttributeHolder
     @Override
     @SuppressWarnings("unchecked")
     public <X extends Attribute> CompletableFuture<X> loadAttribute(Class<? extends X> attributeClass, UUID id) {
-        return CompletableFuture.supplyAsync(() -> {
-                    AttributeData<X, A> data = (AttributeData<X, A>) this.attributeData.get(attributeClass);
-
-                    if (data.shared()) {
-                        X sharedAttribute = (X) this.sharedAttributes.getOrDefault(attributeClass, Map.of()).get(id);
-
-                        if (sharedAttribute == null) {
-                            sharedAttribute = this.loadAttributeFromData(data, id);
-                            this.sharedAttributes.computeIfAbsent(attributeClass, ___ -> new ConcurrentHashMap<>()).put(id, sharedAttribute);
-                        }
-
-                        return sharedAttribute;
-                    } else {
-                        return this.loadAttributeFromData(data, id);
-                    }
-                }, UtilConcurrency.SCHEDULED_EXECUTOR_SERVICE)
+        AttributeData<X, A> data = (AttributeData<X, A>) this.attributeData.get(attributeClass);
+
+        if (data != null && data.shared()) {
+            return this.loadSharedAttribute(data, id);
+        }
+
+        return CompletableFuture.supplyAsync(() -> this.loadAttributeFromData(data, id), UtilConcurrency.getIOPool())
                 .exceptionally(throwable -> {
                     this.errorHandler.accept(id, throwable);
                     return null;
                 });
     }
 
+    /**
+     *
+     * Loads a shared attribute, making sure that it's only loaded from the adapter once
+     * no matter how many holders request it at the same time
+     *
+     * @param data The attribute data
+     * @param id The id of the attribute
+     * @return The future that completes with the shared attribute
+     * @param <X> The attribute type
+     */
+    @SuppressWarnings("unchecked")
+    protected <X extends Attribute> CompletableFuture<X> loadSharedAttribute(AttributeData<X, A> data, UUID id) {
+        X sharedAttribute = (X) this.sharedAttributes.getOrDefault(data.attributeClass(), Map.of()).get(id);
+
+        if (sharedAttribute != null) {
+            return CompletableFuture.completedFuture(sharedAttribute);
+        }
+
+        var key = Pair.<Class<? extends Attribute>, UUID>of(data.attributeClass(), id);
+        var started = new boolean[1];
+        var future = this.loadingSharedAttributes.computeIfAbsent(key, __ -> {
+            started[0] = true;
+
+            return CompletableFuture.<Attribute>supplyAsync(() -> {
+                var attributes = this.sharedAttributes.computeIfAbsent(data.attributeClass(), ___ -> new ConcurrentHashMap<>());
+                var loaded = attributes.get(id);
+
+                if (loaded == null) {
+                    this.sharedLoads.increment();
+                    loaded = this.loadAttributeFromData(data, id);
+                    attributes.put(id, loaded);
+                }
+
+                return loaded;
+            }, UtilConcurrency.getIOPool()).exceptionally(throwable -> {
+                this.errorHandler.accept(id, throwable);
+                return null;
+            });
+        });
+
+        if (started[0]) {
+            future.whenComplete((attribute, throwable) -> this.loadingSharedAttributes.remove(key, future));
+        } else {
+            this.coalescedSharedLoads.increment();
+        }
+
+        return future.thenApply(attribute -> (X) attribute);
+    }
+
+    /**
+     *
+     * Gets the number of times a shared attribute has been loaded from its adapter
+     *
+     * @return The load count
+     */
+    public long getSharedLoadCount() {
+        return this.sharedLoads.sum();
+    }
+
+    /**
+     *
+     * Gets the number of shared attribute requests that waited on a load already in progress
+     * rather than loading the attribute again
+     *
+     * @return The coalesced load count
+     */
+    public long getCoalescedSharedLoadCount() {
+        return this.coalescedSharedLoads.sum();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X extends Attribute> Map<UUID, CompletableFuture<X>> loadAttributes(Class<? extends X> attributeClass, Collection<UUID> ids) {
+        AttributeData<X, A> data = (AttributeData<X, A>) this.attributeData.get(attributeClass);
+
+        if (data == null || data.shared()) {
+            return AttributeManager.super.loadAttributes(attributeClass, ids);
+        }
+
+        var uniqueIds = List.copyOf(new LinkedHashSet<>(ids));
+        var loading = CompletableFuture.supplyAsync(() -> this.loadAttributesFromData(data, uniqueIds), UtilConcurrency.getIOPool());
+        Map<UUID, CompletableFuture<X>> attributes = new LinkedHashMap<>();
+
+        for (int i = 0; i < uniqueIds.size(); i++) {
+            var id = uniqueIds.get(i);
+            var index = i;
+
+            attributes.put(id, loading.thenApply(loaded -> loaded.get(index)).exceptionally(throwable -> {
+                this.errorHandler.accept(id, throwable);
+                return null;
+            }));
+        }
+
+        return attributes;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <X extends Attribute> List<X> loadAttributesFromData(AttributeData<X, A> data, List<UUID> ids) {
+        var adapter = this.getAdapter(data);
+        List<X> instances = new ArrayList<>(ids.size());
+
+        for (var id : ids) {
+            instances.add(data.constructor().apply(id));
+        }
+
+        if (adapter != null) {
+            adapter.loadAll(instances);
+            return instances;
+        }
+
+        for (var instance : instances) {
+            if (instance instanceof AttributeAdapter) {
+                ((AttributeAdapter<X>) instance).load(instance);
+            }
+        }
+
+        return instances;
+    }
+
     @SuppressWarnings("unchecked")
     protected <X extends Attribute> X loadAttributeFromData(AttributeData<X, A> data, UUID id) {
         var adapter = this.getAdapter(data);
@@ -96,24 +219,80 @@ public abstract class PlatformAgnosticAttributeManager<A extends AttributeHolder
     @Override
     @SuppressWarnings("unchecked")
     public <X extends Attribute> CompletableFuture<Void> saveAttribute(X attribute) {
-        if (!this.attributeData.containsKey(attribute.getClass())) {
+        AttributeAdapter<X> adapter = null;
+
+        if (this.attributeData.containsKey(attribute.getClass())) {
+            adapter = (AttributeAdapter<X>) this.getAdapter(this.attributeData.get(attribute.getClass()));
+        }
+
+        if (adapter == null) {
             if (attribute instanceof AttributeAdapter) {
-                return ((AttributeAdapter<X>) attribute).save(attribute);
+                adapter = (AttributeAdapter<X>) attribute;
+            } else {
+                return CompletableFuture.completedFuture(null);
             }
+        }
 
-            return CompletableFuture.completedFuture(null);
-        } else {
-            AttributeAdapter<X> adapter = (AttributeAdapter<X>) this.getAdapter(this.attributeData.get(attribute.getClass()));
+        if (this.saveQueue != null) {
+            return this.saveQueue.enqueue(adapter, attribute);
+        }
 
-            if (adapter == null) {
-                if (attribute instanceof AttributeAdapter) {
-                    return ((AttributeAdapter<X>) attribute).save(attribute);
-                }
+        return adapter.save(attribute);
+    }
 
-                return CompletableFuture.completedFuture(null);
-            }
+    /**
+     *
+     * Sets the write-behind queue that saves are batched through.
+     * If null, saves are sent straight to the adapter
+     *
+     * @param saveQueue The save queue
+     */
+    public void setSaveQueue(AttributeSaveQueue saveQueue) {
+        this.saveQueue = saveQueue;
+    }
+
+    /**
+     *
+     * Gets the write-behind queue that saves are batched through
+     *
+     * @return The save queue, or null if saves are not queued
+     */
+    public AttributeSaveQueue getSaveQueue() {
+        return this.saveQueue;
+    }
+
+    /**
+     *
+     * Flushes any queued saves and sends all later saves straight to the adapter.
+     * Platforms call this as the server is stopping
+     *
+     * @return The future completed once the queued saves have completed
+     */
+    public CompletableFuture<Void> shutdownSaveQueue() {
+        if (this.saveQueue == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return this.saveQueue.shutdown();
+    }
 
-            return adapter.save(attribute);
+    /**
+     *
+     * Flushes any queued saves on the IO pool and waits, for no longer than the timeout, for them to complete.
+     * The wait is bounded so a save that needs the calling thread cannot hold up the server stopping forever
+     *
+     * @param timeout The maximum time to wait
+     * @param timeUnit The unit of the timeout
+     */
+    public void shutdownSaveQueue(long timeout, TimeUnit timeUnit) {
+        try {
+            this.shutdownSaveQueue().get(timeout, timeUnit);
+        } catch (TimeoutException e) {
+            UtilLogger.getLogger().error("Timed out waiting for " + this.saveQueue.getPendingCount() + " queued attribute saves to complete");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            UtilLogger.getLogger().error("Failed to flush queued attribute saves", e.getCause());
         }
     }
 
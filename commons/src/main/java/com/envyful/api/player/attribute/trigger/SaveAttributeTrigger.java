@@ -5,14 +5,21 @@ import com.envyful.api.concurrency.UtilLogger;
 import com.envyful.api.player.attribute.AbstractAttributeTrigger;
 import com.envyful.api.player.attribute.AttributeHolder;
 
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  *
  * An instance of a trigger that will save the attribute data
+ * <br>
+ * Attributes that track their version are skipped if they haven't changed since they were loaded or last saved
  *
  * @param <T> The type of the player
  */
 public class SaveAttributeTrigger<T extends AttributeHolder> extends AbstractAttributeTrigger<T> {
 
+    private final LongAdder written = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
     @Override
     public void trigger(AttributeHolder holder) {
         UtilConcurrency.runAsync(() -> {
@@ -22,9 +29,38 @@ public class SaveAttributeTrigger<T extends AttributeHolder> extends AbstractAtt
                     continue;
                 }
 
+                if (!holder.isAttributeDirty(data.attributeClass())) {
+                    this.skipped.increment();
+                    continue;
+                }
+
                 var attribute = holder.getAttributeNow(data.attributeClass());
-                data.manager().saveAttribute(attribute);
+                var version = attribute.getVersion();
+
+                this.written.increment();
+                data.manager().saveAttribute(attribute)
+                        .thenRun(() -> holder.markAttributeSaved(data.attributeClass(), version));
             }
         });
     }
+
+    /**
+     *
+     * Gets the number of attributes this trigger has sent to be saved
+     *
+     * @return The written count
+     */
+    public long getWrittenCount() {
+        return this.written.sum();
+    }
+
+    /**
+     *
+     * Gets the number of attributes this trigger skipped as they hadn't changed
+     *
+     * @return The skipped count
+     */
+    public long getSkippedCount() {
+        return this.skipped.sum();
+    }
 }
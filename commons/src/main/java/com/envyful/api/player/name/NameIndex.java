@@ -0,0 +1,122 @@
+package com.envyful.api.player.name;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ *
+ * A thread safe two-way index of player names and UUIDs for use by {@link NameStore} implementations
+ * <br>
+ * Names are looked up case insensitively and can be searched by prefix for tab completion. If a name
+ * is taken by a different UUID the most recent owner wins
+ *
+ */
+public class NameIndex {
+
+    private final Map<UUID, String> names = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<String, UUID> uuids = new ConcurrentSkipListMap<>();
+
+    /**
+     *
+     * Sets the name for the UUID
+     *
+     * @param uuid The UUID
+     * @param name The name
+     * @return True if this changed the stored name
+     */
+    public synchronized boolean update(UUID uuid, String name) {
+        var previous = this.names.put(uuid, name);
+        var key = fold(name);
+
+        if (previous != null && !fold(previous).equals(key)) {
+            this.uuids.remove(fold(previous), uuid);
+        }
+
+        var previousOwner = this.uuids.put(key, uuid);
+
+        if (previousOwner != null && !previousOwner.equals(uuid)) {
+            this.names.remove(previousOwner);
+        }
+
+        return !name.equals(previous);
+    }
+
+    /**
+     *
+     * Gets the name stored for the UUID
+     *
+     * @param uuid The UUID
+     * @return The name, or null if not known
+     */
+    public String getName(UUID uuid) {
+        return this.names.get(uuid);
+    }
+
+    /**
+     *
+     * Gets the UUID stored for the name, ignoring case
+     *
+     * @param name The name
+     * @return The UUID, or null if not known
+     */
+    public UUID getUUID(String name) {
+        return this.uuids.get(fold(name));
+    }
+
+    /**
+     *
+     * Gets the stored names that start with the prefix, ignoring case
+     *
+     * @param prefix The prefix
+     * @param limit The maximum number of names to return
+     * @return The names, in alphabetical order
+     */
+    public List<String> getNamesStartingWith(String prefix, int limit) {
+        var key = fold(prefix);
+        List<String> matches = new ArrayList<>();
+
+        for (var uuid : this.uuids.tailMap(key).entrySet()) {
+            if (matches.size() >= limit || !uuid.getKey().startsWith(key)) {
+                break;
+            }
+
+            var name = this.names.get(uuid.getValue());
+
+            if (name != null) {
+                matches.add(name);
+            }
+        }
+
+        return matches;
+    }
+
+    /**
+     *
+     * Gets the number of names stored
+     *
+     * @return The size
+     */
+    public int size() {
+        return this.names.size();
+    }
+
+    /**
+     *
+     * Gets a copy of all the stored names by UUID
+     *
+     * @return The names
+     */
+    public Map<UUID, String> getNames() {
+        return Map.copyOf(this.names);
+    }
+
+    private static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,5 +1,6 @@
 package com.envyful.api.player.name;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -28,6 +29,20 @@ public interface NameStore {
      */
     CompletableFuture<UUID> getUUID(String name);
 
+    /**
+     *
+     * Gets the names of the players whose name starts with the given prefix, ignoring case
+     * <br>
+     * Intended for tab completing the names of offline players
+     *
+     * @param prefix The prefix
+     * @param limit The maximum number of names to return
+     * @return The matching names
+     */
+    default CompletableFuture<List<String>> getNamesStartingWith(String prefix, int limit) {
+        return CompletableFuture.completedFuture(List.of());
+    }
+
     /**
      *
      * Updates the stored name for the given UUID
@@ -37,4 +52,11 @@ public interface NameStore {
      */
     void updateStored(UUID uuid, String name);
 
+    /**
+     *
+     * Writes any names that are waiting to be saved. Called by the player manager as the server stops
+     *
+     */
+    default void shutdown() {
+    }
 }
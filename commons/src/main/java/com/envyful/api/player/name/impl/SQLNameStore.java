@@ -1,66 +1,312 @@
 package com.envyful.api.player.name.impl;
 
+import com.envyful.api.concurrency.UtilConcurrency;
+import com.envyful.api.concurrency.UtilLogger;
 import com.envyful.api.database.Database;
 import com.envyful.api.database.sql.SqlType;
 import com.envyful.api.player.name.NameStore;
+import com.envyful.api.type.cache.CacheStats;
+import com.envyful.api.type.cache.ExpiringCache;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  *
  * An implementation of the {@link NameStore} that stores the data in a SQL database
+ * <br>
+ * Lookups are read through a bounded local cache so repeated lookups of the same players do not
+ * query the database. Cached entries are reloaded a few minutes after they were loaded so renames
+ * written by other servers sharing the table are picked up. Names are matched ignoring case using an
+ * indexed lower case copy of the name
+ * <br>
+ * Updates are written behind in batches, and updates that don't change the stored name are skipped,
+ * so a wave of players logging in becomes a handful of statements rather than one per player. A batch
+ * that fails to write is queued again, and {@link #shutdown()} writes anything still queued
  *
  */
 public class SQLNameStore implements NameStore {
 
+    private static final String TABLE = "envy_api_player_names";
+    private static final int DEFAULT_CACHE_SIZE = 10_000;
+    private static final int BATCH_SIZE = 100;
+    private static final long FLUSH_INTERVAL = TimeUnit.SECONDS.toMillis(2);
+    private static final long CACHE_DURATION = TimeUnit.MINUTES.toMillis(5);
+
     private final Database database;
+    private final String upsertSQL;
+    private final ExpiringCache<UUID, String> names;
+    private final ExpiringCache<String, UUID> uuids;
+    private final Map<UUID, String> pendingUpdates = new ConcurrentHashMap<>();
+    private final ReentrantLock flushing = new ReentrantLock();
+    private final CompletableFuture<Void> setup;
+
+    private volatile ScheduledFuture<?> flushTask;
 
     public SQLNameStore(Database database) {
+        this(database, DEFAULT_CACHE_SIZE);
+    }
+
+    public SQLNameStore(Database database, int cacheSize) {
         this.database = database;
+        this.upsertSQL = database.getUpsertSQL(TABLE, "uuid", "name", "name_lower");
+        this.names = ExpiringCache.<UUID, String>builder()
+                .expireAfterWrite(CACHE_DURATION, TimeUnit.MILLISECONDS)
+                .maximumSize(cacheSize)
+                .build();
+        this.uuids = ExpiringCache.<String, UUID>builder()
+                .expireAfterWrite(CACHE_DURATION, TimeUnit.MILLISECONDS)
+                .maximumSize(cacheSize)
+                .build();
+
+        this.setup = UtilConcurrency.runIO(this::createTable);
+        this.setup.thenRun(() -> this.flushTask = UtilConcurrency.SCHEDULED_EXECUTOR_SERVICE.scheduleWithFixedDelay(
+                this::flush, FLUSH_INTERVAL, FLUSH_INTERVAL, TimeUnit.MILLISECONDS));
+    }
+
+    private void createTable() {
+        try (var connection = this.database.getConnection()) {
+            if (!this.hasColumn(connection, "uuid")) {
+                this.execute(connection, "CREATE TABLE IF NOT EXISTS `" + TABLE + "`(" +
+                        "uuid       VARCHAR(36) NOT NULL, " +
+                        "name       VARCHAR(16) NOT NULL, " +
+                        "name_lower VARCHAR(16) NOT NULL, " +
+                        "PRIMARY KEY(uuid)" +
+                        ");");
+                this.execute(connection, "CREATE INDEX `" + TABLE + "_name_lower` ON `" + TABLE + "` (name_lower);");
+                return;
+            }
+
+            if (!this.hasColumn(connection, "name_lower")) {
+                this.execute(connection, "ALTER TABLE `" + TABLE + "` ADD COLUMN name_lower VARCHAR(16);");
+                this.execute(connection, "UPDATE `" + TABLE + "` SET name_lower = LOWER(name);");
+                this.execute(connection, "CREATE INDEX `" + TABLE + "_name_lower` ON `" + TABLE + "` (name_lower);");
+            }
+        } catch (SQLException e) {
+            UtilLogger.getLogger().error("Error creating the player names table", e);
+        }
+    }
+
+    private boolean hasColumn(Connection connection, String column) throws SQLException {
+        var metaData = connection.getMetaData();
+        var escape = metaData.getSearchStringEscape();
+
+        // Some databases store unquoted identifiers in upper case so check both
+        for (var table : new String[] {TABLE, TABLE.toUpperCase(Locale.ROOT)}) {
+            for (var name : new String[] {column, column.toUpperCase(Locale.ROOT)}) {
+                try (var columns = metaData.getColumns(connection.getCatalog(), null,
+                        escapePattern(table, escape), escapePattern(name, escape))) {
+                    if (columns.next()) {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static String escapePattern(String name, String escape) {
+        if (escape == null || escape.isEmpty()) {
+            return name;
+        }
 
-        this.database.update("CREATE TABLE IF NOT EXISTS `envy_api_player_names`(" +
-                "id         INT         UNSIGNED        NOT NULL    AUTO_INCREMENT, " +
-                "name       VARCHAR(16) NOT NULL, " +
-                "uuid       VARCHAR(36) NOT NULL, " +
-                "UNIQUE(uuid), " +
-                "PRIMARY KEY(id)" +
-                ");").executeAsync();
+        return name.replace(escape, escape + escape)
+                .replace("_", escape + "_")
+                .replace("%", escape + "%");
+    }
+
+    private void execute(Connection connection, String sql) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
     }
 
     @Override
     public CompletableFuture<String> getName(UUID uuid) {
-        return this.database.query("SELECT name FROM `envy_api_player_names` WHERE uuid = ?;")
+        var name = this.pendingUpdates.get(uuid);
+
+        if (name == null) {
+            name = this.names.getIfPresent(uuid);
+        }
+
+        if (name != null) {
+            return CompletableFuture.completedFuture(name);
+        }
+
+        return this.setup.thenApplyAsync(unused -> this.names.get(uuid, this::loadName),
+                UtilConcurrency.getIOPool());
+    }
+
+    private String loadName(UUID uuid) {
+        var names = this.database.<String>query("SELECT name FROM `" + TABLE + "` WHERE uuid = ?;")
                 .data(SqlType.text(uuid.toString()))
                 .converter(resultSet -> resultSet.getString("name"))
-                .executeAsyncWithConverter().thenApply(names -> {
-                    if (names.isEmpty()) {
-                        return null;
-                    }
+                .executeWithConverter();
 
-                    return names.get(0);
-                });
+        return names.isEmpty() ? null : names.get(0);
     }
 
     @Override
     public CompletableFuture<UUID> getUUID(String name) {
-        return this.database.query("SELECT uuid FROM `envy_api_player_names` WHERE name = ?;")
-                .data(SqlType.text(name))
+        var key = name.toLowerCase(Locale.ROOT);
+        var uuid = this.uuids.getIfPresent(key);
+
+        if (uuid != null) {
+            return CompletableFuture.completedFuture(uuid);
+        }
+
+        return this.setup.thenApplyAsync(unused -> this.uuids.get(key, this::loadUUID),
+                UtilConcurrency.getIOPool());
+    }
+
+    private UUID loadUUID(String lowerName) {
+        var uuids = this.database.<UUID>query("SELECT uuid FROM `" + TABLE + "` WHERE name_lower = ?;")
+                .data(SqlType.text(lowerName))
                 .converter(resultSet -> UUID.fromString(resultSet.getString("uuid")))
-                .executeAsyncWithConverter().thenApply(uuids -> {
-                    if (uuids.isEmpty()) {
-                        return null;
-                    }
+                .executeWithConverter();
+
+        return uuids.isEmpty() ? null : uuids.get(0);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getNamesStartingWith(String prefix, int limit) {
+        var pattern = prefix.toLowerCase(Locale.ROOT)
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_") + "%";
 
-                    return uuids.get(0);
-                });
+        return this.setup.thenCompose(unused -> this.database.<String>query("SELECT name FROM `" + TABLE + "` " +
+                        "WHERE name_lower LIKE ? ESCAPE '!' ORDER BY name_lower LIMIT ?;")
+                .data(SqlType.text(pattern), SqlType.integer(limit))
+                .converter(resultSet -> resultSet.getString("name"))
+                .executeAsyncWithConverter());
     }
 
     @Override
     public void updateStored(UUID uuid, String name) {
-        this.database.update("INSERT INTO `envy_api_player_names` (uuid, name) VALUES (?, ?) " +
-                "ON DUPLICATE KEY UPDATE name = VALUES(`name`);")
-                .data(SqlType.text(uuid.toString()), SqlType.text(name))
-                .executeAsync();
+        var previous = this.names.put(uuid, name);
+
+        if (previous != null && !previous.equalsIgnoreCase(name)) {
+            this.uuids.remove(previous.toLowerCase(Locale.ROOT));
+        }
+
+        this.uuids.put(name.toLowerCase(Locale.ROOT), uuid);
+
+        if (name.equals(previous) && !this.pendingUpdates.containsKey(uuid)) {
+            return;
+        }
+
+        this.pendingUpdates.put(uuid, name);
+
+        if (this.pendingUpdates.size() >= BATCH_SIZE && this.setup.isDone()) {
+            UtilConcurrency.runIO(this::flush);
+        }
+    }
+
+    /**
+     *
+     * Writes all the pending name updates to the database. Does nothing if a flush is already running
+     *
+     */
+    public void flush() {
+        if (!this.flushing.tryLock()) {
+            return;
+        }
+
+        try {
+            this.writePending();
+        } finally {
+            this.flushing.unlock();
+        }
+    }
+
+    /**
+     *
+     * Stops the periodic flush and writes all the pending name updates to the database,
+     * waiting for any flush already running to finish first
+     *
+     */
+    @Override
+    public void shutdown() {
+        if (this.flushTask != null) {
+            this.flushTask.cancel(false);
+        }
+
+        this.flushing.lock();
+
+        try {
+            this.writePending();
+        } finally {
+            this.flushing.unlock();
+        }
+    }
+
+    private void writePending() {
+        while (!this.pendingUpdates.isEmpty()) {
+            List<Map.Entry<UUID, String>> batch = new ArrayList<>(BATCH_SIZE);
+            var iterator = this.pendingUpdates.entrySet().iterator();
+
+            while (iterator.hasNext() && batch.size() < BATCH_SIZE) {
+                var entry = iterator.next();
+
+                if (this.pendingUpdates.remove(entry.getKey(), entry.getValue())) {
+                    batch.add(Map.entry(entry.getKey(), entry.getValue()));
+                }
+            }
+
+            if (batch.isEmpty()) {
+                continue;
+            }
+
+            var result = this.database.<Map.Entry<UUID, String>>streamingBatch(this.upsertSQL)
+                    .data(batch)
+                    .binder((entry, statement) -> {
+                        statement.setString(1, entry.getKey().toString());
+                        statement.setString(2, entry.getValue());
+                        statement.setString(3, entry.getValue().toLowerCase(Locale.ROOT));
+                    })
+                    .chunkSize(BATCH_SIZE)
+                    .execute();
+
+            if (!result.isSuccessful()) {
+                // Keep any newer update that was queued while this batch was being written
+                for (var entry : batch) {
+                    this.pendingUpdates.putIfAbsent(entry.getKey(), entry.getValue());
+                }
+
+                return;
+            }
+        }
+    }
+
+    /**
+     *
+     * Gets the usage statistics of the UUID to name cache
+     *
+     * @return The stats
+     */
+    public CacheStats getNameCacheStats() {
+        return this.names.getStats();
+    }
+
+    /**
+     *
+     * Gets the usage statistics of the name to UUID cache
+     *
+     * @return The stats
+     */
+    public CacheStats getUUIDCacheStats() {
+        return this.uuids.getStats();
     }
 }
@@ -2,51 +2,48 @@ package com.envyful.api.player.name.impl;
 
 import com.envyful.api.concurrency.UtilConcurrency;
 import com.envyful.api.concurrency.UtilLogger;
+import com.envyful.api.player.name.NameIndex;
 import com.envyful.api.player.name.NameStore;
 
 import java.io.*;
 import java.nio.file.Files;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 
 /**
  *
  * An implementation of the {@link NameStore} that stores the data in a flat file
+ * <br>
+ * Changed names are appended to the end of the file rather than the whole file being rewritten. Once the
+ * file holds more outdated lines than current ones it is compacted by rewriting only the current names.
+ * Files in the older three part format are compacted into the current format when loaded
+ * <br>
+ * Lookups made while the file is still being loaded complete once it has been read
  *
  */
 public class TextNameStore implements NameStore {
 
+    private static final String SEPARATOR = "@@##@@";
+
     private final File file;
-    private final Map<UUID, String> nameCache = new HashMap<>();
-    private boolean saving = false;
+    private final NameIndex index = new NameIndex();
+    private final Queue<String> pendingLines = new ConcurrentLinkedQueue<>();
 
-    public TextNameStore(File file) {
-        this.file = file;
+    private final CompletableFuture<Void> loading;
 
-        UtilConcurrency.runAsync(() -> {
-            try {
-                this.createFiles();
-            } catch (IOException e) {
-                UtilLogger.getLogger().error("Failed to create username cache file", e);
-            }
+    private int lines = 0;
+    private boolean legacyLines = false;
 
-            try (var fileReader = new FileReader(file);
-                    var reader = new BufferedReader(fileReader)) {
-                String line;
-
-                while ((line = reader.readLine()) != null) {
-                    String[] args = line.split("@@##@@");
-                    this.nameCache.put(UUID.fromString(args[0]), args[1]);
-                }
-            } catch (IOException e) {
-                UtilLogger.getLogger().error("Failed to load username cache", e);
-            }
-        });
+    public TextNameStore(File file) {
+        this.file = file;
 
-        UtilConcurrency.runRepeatingTask(this::save, 5, 5, TimeUnit.MINUTES);
+        this.loading = UtilConcurrency.runIO(this::load);
+        UtilConcurrency.runRepeatingTask(this::save, 30, 30, TimeUnit.SECONDS);
     }
 
     private void createFiles() throws IOException {
@@ -59,50 +56,141 @@ public class TextNameStore implements NameStore {
         }
     }
 
-    public void save() {
-        if (this.saving) {
-            return;
+    private synchronized void load() {
+        try {
+            this.createFiles();
+        } catch (IOException e) {
+            UtilLogger.getLogger().error("Failed to create username cache file", e);
         }
 
-        this.saving = true;
+        var loaded = new NameIndex();
 
-        try (var fileWriter = new FileWriter(this.file);
-             var writer = new BufferedWriter(fileWriter)) {
+        try (var fileReader = new FileReader(this.file);
+             var reader = new BufferedReader(fileReader)) {
+            String line;
 
-            for (var entry : this.nameCache.entrySet()) {
-                if (!this.saving) {
-                    return;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
                 }
 
-                writer.write(entry.getValue() + "@@##@@" + entry.getKey().getMostSignificantBits() + "@@##@@" + entry.getKey().getLeastSignificantBits() + System.lineSeparator());
+                this.legacyLines |= readLine(loaded, line);
+                ++this.lines;
+            }
+        } catch (IOException e) {
+            UtilLogger.getLogger().error("Failed to load username cache", e);
+        }
+
+        // Players may have logged in while the file was being read, their current name takes priority
+        for (var entry : loaded.getNames().entrySet()) {
+            if (this.index.getName(entry.getKey()) == null) {
+                this.index.update(entry.getKey(), entry.getValue());
+            }
+        }
+
+        if (this.legacyLines || this.lines > this.index.size()) {
+            this.compact();
+        }
+    }
+
+    private static boolean readLine(NameIndex index, String line) {
+        String[] args = line.split(SEPARATOR);
+
+        try {
+            if (args.length == 2) {
+                index.update(UUID.fromString(args[0]), args[1]);
+            } else if (args.length == 3) {
+                // Files written by older versions stored the name first and split the UUID into its two halves
+                index.update(new UUID(Long.parseLong(args[1]), Long.parseLong(args[2])), args[0]);
+                return true;
             }
+        } catch (IllegalArgumentException e) {
+            UtilLogger.getLogger().error("Skipping invalid username cache line: " + line);
+        }
 
-            this.saving = false;
+        return false;
+    }
+
+    /**
+     *
+     * Writes any changed names to the file, compacting it if it has grown too large
+     *
+     */
+    public synchronized void save() {
+        if (this.pendingLines.isEmpty()) {
+            return;
+        }
+
+        try (var fileWriter = new FileWriter(this.file, true);
+             var writer = new BufferedWriter(fileWriter)) {
+            String line;
+
+            while ((line = this.pendingLines.poll()) != null) {
+                writer.write(line);
+                writer.newLine();
+                ++this.lines;
+            }
         } catch (IOException e) {
             UtilLogger.getLogger().error("Failed to save username cache", e);
         }
+
+        if (this.lines > this.index.size() * 2) {
+            this.compact();
+        }
+    }
+
+    private void compact() {
+        var temp = new File(this.file.getParentFile(), this.file.getName() + ".tmp");
+        var names = this.index.getNames();
+
+        try (var fileWriter = new FileWriter(temp);
+             var writer = new BufferedWriter(fileWriter)) {
+            for (var entry : names.entrySet()) {
+                writer.write(toLine(entry.getKey(), entry.getValue()));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            UtilLogger.getLogger().error("Failed to compact username cache", e);
+            return;
+        }
+
+        try {
+            Files.move(temp.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            this.lines = names.size();
+            this.legacyLines = false;
+        } catch (IOException e) {
+            UtilLogger.getLogger().error("Failed to replace username cache", e);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        this.save();
     }
 
     @Override
     public CompletableFuture<String> getName(UUID uuid) {
-        return CompletableFuture.completedFuture(this.nameCache.get(uuid));
+        return this.loading.thenApply(unused -> this.index.getName(uuid));
     }
 
     @Override
     public CompletableFuture<UUID> getUUID(String name) {
-        return CompletableFuture.supplyAsync(() -> {
-            for (var entry : this.nameCache.entrySet()) {
-                if (entry.getValue().equalsIgnoreCase(name)) {
-                    return entry.getKey();
-                }
-            }
+        return this.loading.thenApply(unused -> this.index.getUUID(name));
+    }
 
-            return null;
-        }, UtilConcurrency.SCHEDULED_EXECUTOR_SERVICE);
+    @Override
+    public CompletableFuture<List<String>> getNamesStartingWith(String prefix, int limit) {
+        return this.loading.thenApply(unused -> this.index.getNamesStartingWith(prefix, limit));
     }
 
     @Override
     public void updateStored(UUID uuid, String name) {
-        this.nameCache.put(uuid, name);
+        if (this.index.update(uuid, name)) {
+            this.pendingLines.add(toLine(uuid, name));
+        }
+    }
+
+    private static String toLine(UUID uuid, String name) {
+        return uuid.toString() + SEPARATOR + name;
     }
 }
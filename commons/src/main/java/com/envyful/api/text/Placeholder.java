@@ -5,6 +5,9 @@ import com.envyful.api.text.parse.MultiPlaceholder;
 import com.envyful.api.text.parse.SimplePlaceholder;
 import com.envyful.api.text.placeholder.EmptyPlaceholder;
 import com.envyful.api.text.placeholder.OptionalPlaceholder;
+import com.envyful.api.text.placeholder.ReplacementPlaceholder;
+import com.envyful.api.text.template.PlaceholderBindings;
+import com.envyful.api.text.template.PlaceholderTemplate;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.Collections;
@@ -30,6 +33,19 @@ public interface Placeholder {
     @NonNull
     ParseResult replace(@NonNull ParseResult line);
 
+    /**
+     *
+     * Attempts to add this placeholder to the bindings as direct {@code %key%} replacements,
+     * allowing text to be rendered from a compiled {@link PlaceholderTemplate} in a single pass
+     * rather than through {@link #replace(ParseResult)}
+     *
+     * @param bindings The bindings to add to
+     * @return False if this placeholder cannot be expressed as key bindings
+     */
+    default boolean bind(@NonNull PlaceholderBindings bindings) {
+        return false;
+    }
+
     /**
      *
      * Gets a simple placeholder instance for the given function
@@ -50,7 +66,7 @@ public interface Placeholder {
      * @return The placeholder instance
      */
     static Placeholder simple(String key, String result) {
-        return simple(s -> s.replace(key, result));
+        return ReplacementPlaceholder.of(key, result);
     }
 
     /**
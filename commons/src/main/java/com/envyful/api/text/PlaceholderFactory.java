@@ -1,6 +1,8 @@
 package com.envyful.api.text;
 
 import com.envyful.api.text.results.OriginalParseResult;
+import com.envyful.api.text.template.PlaceholderBindings;
+import com.envyful.api.text.template.PlaceholderTemplate;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.ArrayList;
@@ -17,6 +19,9 @@ import java.util.function.Function;
  * Registering a global placeholder here will allow it to be replaced in the mod that this is shaded in
  * Global placeholders are parsed after the local ones however
  *
+ * When every placeholder can be expressed as {@code %key%} bindings each line is rendered from a cached
+ * {@link PlaceholderTemplate} in a single pass, otherwise the placeholders are applied to each line in turn
+ *
  */
 public class PlaceholderFactory {
 
@@ -73,6 +78,23 @@ public class PlaceholderFactory {
     @NonNull
     public static List<String> handlePlaceholders(List<String> text, Placeholder... placeholders) {
         List<String> computedText = new ArrayList<>();
+        var bindings = PlaceholderBindings.of(placeholders, getGlobalPlaceholders());
+
+        if (bindings != null) {
+            for (var line : text) {
+                if (line == null) {
+                    continue;
+                }
+
+                var rendered = PlaceholderTemplate.render(line, bindings);
+
+                if (rendered != null) {
+                    computedText.add(rendered);
+                }
+            }
+
+            return computedText;
+        }
 
         for (var line : text) {
             if (line == null) {
@@ -114,6 +136,23 @@ public class PlaceholderFactory {
     @NonNull
     public static <T> List<T> handlePlaceholders(List<String> text, Function<String, T> mapper, Placeholder... placeholders) {
         List<T> computedText = new ArrayList<>();
+        var bindings = PlaceholderBindings.of(placeholders, getGlobalPlaceholders());
+
+        if (bindings != null) {
+            for (var line : text) {
+                if (line == null) {
+                    continue;
+                }
+
+                var rendered = PlaceholderTemplate.render(line, bindings);
+
+                if (rendered != null) {
+                    computedText.add(mapper.apply(rendered));
+                }
+            }
+
+            return computedText;
+        }
 
         for (String line : text) {
             if (line == null) {
@@ -2,6 +2,7 @@ package com.envyful.api.text.parse;
 
 import com.envyful.api.text.ParseResult;
 import com.envyful.api.text.Placeholder;
+import com.envyful.api.text.template.PlaceholderBindings;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.List;
@@ -30,4 +31,15 @@ public class ComposedPlaceholder implements Placeholder {
 
         return line;
     }
+
+    @Override
+    public boolean bind(@NonNull PlaceholderBindings bindings) {
+        for (Placeholder placeholder : this.placeholders) {
+            if (!placeholder.bind(bindings)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
 }
@@ -1,5 +1,7 @@
 package com.envyful.api.text.parse;
 
+import com.envyful.api.text.template.PlaceholderBindings;
+
 import java.util.function.UnaryOperator;
 
 /**
@@ -24,6 +26,11 @@ public class SimpleTranslatablePlaceholder implements TranslatablePlaceholder {
         return line.replace(this.replaced, this.value);
     }
 
+    @Override
+    public boolean bind(PlaceholderBindings bindings) {
+        return bindings.value(this.replaced, this.value);
+    }
+
     @Override
     public TranslatablePlaceholder transform(UnaryOperator<String> keyModifier) {
         return new SimpleTranslatablePlaceholder(keyModifier.apply(this.key), this.value);
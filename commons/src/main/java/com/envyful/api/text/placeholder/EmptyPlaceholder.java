@@ -1,6 +1,7 @@
 package com.envyful.api.text.placeholder;
 
 import com.envyful.api.text.parse.SimplePlaceholder;
+import com.envyful.api.text.template.PlaceholderBindings;
 
 /**
  *
@@ -27,4 +28,9 @@ public class EmptyPlaceholder implements SimplePlaceholder {
 
         return line;
     }
+
+    @Override
+    public boolean bind(PlaceholderBindings bindings) {
+        return bindings.remove(this.key);
+    }
 }
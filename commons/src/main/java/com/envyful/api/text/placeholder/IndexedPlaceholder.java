@@ -0,0 +1,67 @@
+package com.envyful.api.text.placeholder;
+
+import com.envyful.api.text.parse.SimplePlaceholder;
+import com.envyful.api.text.template.PlaceholderBindings;
+
+/**
+ *
+ * A placeholder that replaces a fixed array of tokens with the value at the same index in an array of values.
+ * A null value removes any line containing its token, as with {@link EmptyPlaceholder}
+ * <br>
+ * When filling in the same tokens for many objects the token array can be shared, so each object only needs
+ * its values array rather than a placeholder per token. The tokens are applied in order, so the first token
+ * bound to a key wins
+ *
+ */
+public class IndexedPlaceholder implements SimplePlaceholder {
+
+    private final String[] tokens;
+    private final String[] values;
+
+    protected IndexedPlaceholder(String[] tokens, String[] values) {
+        if (tokens.length != values.length) {
+            throw new IllegalArgumentException("Expected " + tokens.length + " values but got " + values.length);
+        }
+
+        this.tokens = tokens;
+        this.values = values;
+    }
+
+    /**
+     *
+     * Creates the placeholder. Neither array is copied so they must not be changed afterwards
+     *
+     * @param tokens The tokens, in the form {@code %key%}
+     * @param values The values, null to remove lines containing the token
+     * @return The placeholder
+     */
+    public static IndexedPlaceholder of(String[] tokens, String[] values) {
+        return new IndexedPlaceholder(tokens, values);
+    }
+
+    @Override
+    public String replace(String line) {
+        for (int i = 0; i < this.tokens.length; i++) {
+            if (this.values[i] != null) {
+                line = line.replace(this.tokens[i], this.values[i]);
+            } else if (line.contains(this.tokens[i])) {
+                return null;
+            }
+        }
+
+        return line;
+    }
+
+    @Override
+    public boolean bind(PlaceholderBindings bindings) {
+        for (int i = 0; i < this.tokens.length; i++) {
+            var bound = this.values[i] == null ? bindings.remove(this.tokens[i]) : bindings.value(this.tokens[i], this.values[i]);
+
+            if (!bound) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -2,6 +2,7 @@ package com.envyful.api.text.placeholder;
 
 import com.envyful.api.text.ParseResult;
 import com.envyful.api.text.Placeholder;
+import com.envyful.api.text.template.PlaceholderBindings;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.function.BooleanSupplier;
@@ -37,6 +38,15 @@ public class OptionalPlaceholder implements Placeholder {
         return this.placeholder.replace(line);
     }
 
+    @Override
+    public boolean bind(@NonNull PlaceholderBindings bindings) {
+        if (!this.test.getAsBoolean()) {
+            return this.elsePlaceholder == null || this.elsePlaceholder.bind(bindings);
+        }
+
+        return this.placeholder.bind(bindings);
+    }
+
     public static class Builder {
 
         protected BooleanSupplier test;
@@ -0,0 +1,34 @@
+package com.envyful.api.text.placeholder;
+
+import com.envyful.api.text.parse.SimplePlaceholder;
+import com.envyful.api.text.template.PlaceholderBindings;
+
+/**
+ *
+ * A placeholder that replaces every occurrence of the key with the value
+ *
+ */
+public class ReplacementPlaceholder implements SimplePlaceholder {
+
+    private final String key;
+    private final String value;
+
+    protected ReplacementPlaceholder(String key, String value) {
+        this.key = key;
+        this.value = value;
+    }
+
+    public static ReplacementPlaceholder of(String key, String value) {
+        return new ReplacementPlaceholder(key, value);
+    }
+
+    @Override
+    public String replace(String line) {
+        return line.replace(this.key, this.value);
+    }
+
+    @Override
+    public boolean bind(PlaceholderBindings bindings) {
+        return bindings.value(this.key, this.value);
+    }
+}
@@ -0,0 +1,114 @@
+package com.envyful.api.text.template;
+
+/**
+ *
+ * Splits text into the runs of plain text and the {@code &x} and {@code &#rrggbb} colour codes between them
+ * in a single pass, matching the same codes as {@code &(#\w{6}|[\da-zA-Z])}
+ * <br>
+ * Scanning {@link RenderedText} lets platforms build their formatted text straight from a template and its
+ * bindings without creating the rendered line first
+ *
+ */
+public class ColourCodeScanner {
+
+    private static final String[] SINGLE_CODES = new String[128];
+
+    static {
+        for (char c = '0'; c <= 'z'; c++) {
+            if (Character.isLetterOrDigit(c)) {
+                SINGLE_CODES[c] = String.valueOf(c);
+            }
+        }
+    }
+
+    private ColourCodeScanner() {
+        throw new UnsupportedOperationException("Static utility class");
+    }
+
+    /**
+     *
+     * Scans the text, passing each run of text and each code to the visitor in order
+     *
+     * @param text The text
+     * @param visitor The visitor
+     */
+    public static void scan(CharSequence text, Visitor visitor) {
+        var length = text.length();
+        var runStart = 0;
+
+        for (int i = 0; i < length - 1; i++) {
+            if (text.charAt(i) != '&') {
+                continue;
+            }
+
+            var codeLength = getCodeLength(text, i + 1, length);
+
+            if (codeLength == 0) {
+                continue;
+            }
+
+            if (i > runStart) {
+                visitor.text(text.subSequence(runStart, i).toString());
+            }
+
+            visitor.code(codeLength == 1 ? SINGLE_CODES[text.charAt(i + 1)] : text.subSequence(i + 1, i + 1 + codeLength).toString());
+            i += codeLength;
+            runStart = i + 1;
+        }
+
+        if (runStart < length) {
+            visitor.text(text.subSequence(runStart, length).toString());
+        }
+    }
+
+    private static int getCodeLength(CharSequence text, int start, int length) {
+        var c = text.charAt(start);
+
+        if (c != '#') {
+            return isAlphanumeric(c) ? 1 : 0;
+        }
+
+        if (start + 7 > length) {
+            return 0;
+        }
+
+        for (int i = start + 1; i < start + 7; i++) {
+            var hex = text.charAt(i);
+
+            if (!isAlphanumeric(hex) && hex != '_') {
+                return 0;
+            }
+        }
+
+        return 7;
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     *
+     * Receives the parts of the scanned text
+     *
+     */
+    public interface Visitor {
+
+        /**
+         *
+         * Called with each non-empty run of text between codes
+         *
+         * @param text The text
+         */
+        void text(String text);
+
+        /**
+         *
+         * Called with each code, without the {@code &}. Either a single letter or digit,
+         * or {@code #} followed by six letters, digits, or underscores
+         *
+         * @param code The code
+         */
+        void code(String code);
+    }
+}
@@ -0,0 +1,114 @@
+package com.envyful.api.text.template;
+
+import com.envyful.api.text.Placeholder;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ *
+ * A lookup of {@code %key%} tokens to the values they're replaced with, built from placeholders
+ * that can express themselves as direct key bindings through {@link Placeholder#bind(PlaceholderBindings)}
+ * <br>
+ * As with applying the placeholders in turn, the first placeholder to bind a key wins
+ *
+ */
+public class PlaceholderBindings {
+
+    private final Map<String, String> values = new HashMap<>();
+    private final Set<String> removals = new HashSet<>();
+
+    private PlaceholderBindings() {}
+
+    /**
+     *
+     * Binds the token to the value
+     * <br>
+     * Values containing a {@code %} cannot be bound, as a later placeholder could
+     * have replaced part of the value when the placeholders are applied in turn
+     *
+     * @param token The token, in the form {@code %key%}
+     * @param value The value to replace it with
+     * @return True if the token could be bound
+     */
+    public boolean value(String token, String value) {
+        var key = toKey(token);
+
+        if (key == null || value == null || value.indexOf('%') != -1) {
+            return false;
+        }
+
+        if (!this.removals.contains(key)) {
+            this.values.putIfAbsent(key, value);
+        }
+
+        return true;
+    }
+
+    /**
+     *
+     * Binds the token so that any line containing it is removed
+     *
+     * @param token The token, in the form {@code %key%}
+     * @return True if the token could be bound
+     */
+    public boolean remove(String token) {
+        var key = toKey(token);
+
+        if (key == null) {
+            return false;
+        }
+
+        if (!this.values.containsKey(key)) {
+            this.removals.add(key);
+        }
+
+        return true;
+    }
+
+    String get(String key) {
+        return this.values.get(key);
+    }
+
+    boolean isRemoved(String key) {
+        return this.removals.contains(key);
+    }
+
+    private static String toKey(String token) {
+        if (token == null || token.length() < 3 || token.charAt(0) != '%' || token.charAt(token.length() - 1) != '%') {
+            return null;
+        }
+
+        var key = token.substring(1, token.length() - 1);
+        return key.indexOf('%') == -1 ? key : null;
+    }
+
+    /**
+     *
+     * Binds the local placeholders followed by the global placeholders
+     *
+     * @param placeholders The local placeholders
+     * @param globalPlaceholders The global placeholders
+     * @return The bindings, or null if any placeholder cannot be expressed as key bindings
+     */
+    public static PlaceholderBindings of(Placeholder[] placeholders, List<Placeholder> globalPlaceholders) {
+        var bindings = new PlaceholderBindings();
+
+        for (var placeholder : placeholders) {
+            if (!placeholder.bind(bindings)) {
+                return null;
+            }
+        }
+
+        for (var placeholder : globalPlaceholders) {
+            if (!placeholder.bind(bindings)) {
+                return null;
+            }
+        }
+
+        return bindings;
+    }
+}
@@ -0,0 +1,194 @@
+package com.envyful.api.text.template;
+
+import com.envyful.api.type.cache.CacheStats;
+import com.envyful.api.type.cache.EvictionPolicy;
+import com.envyful.api.type.cache.ExpiringCache;
+
+import java.util.Arrays;
+
+/**
+ *
+ * A line of text compiled once into the positions of its {@code %key%} tokens so it can be
+ * rendered against {@link PlaceholderBindings} in a single pass
+ * <br>
+ * Tokens are matched left to right, with text between two {@code %} signs that isn't bound
+ * left as it is. Compiled templates are cached by their text
+ *
+ */
+public class PlaceholderTemplate {
+
+    private static final int CACHE_SIZE = 8192;
+    private static final int MAX_RETAINED_BUILDER_CAPACITY = 8192;
+
+    private static final ExpiringCache<String, PlaceholderTemplate> CACHE = ExpiringCache.<String, PlaceholderTemplate>builder()
+            .maximumSize(CACHE_SIZE)
+            .evictionPolicy(EvictionPolicy.tinyLfu(CACHE_SIZE))
+            .build();
+
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(StringBuilder::new);
+
+    private final String text;
+    private final int[] percents;
+    private final String[] keys;
+
+    private PlaceholderTemplate(String text) {
+        var percents = new int[8];
+        var count = 0;
+
+        for (int i = text.indexOf('%'); i != -1; i = text.indexOf('%', i + 1)) {
+            if (count == percents.length) {
+                percents = Arrays.copyOf(percents, count * 2);
+            }
+
+            percents[count++] = i;
+        }
+
+        this.text = text;
+        this.percents = Arrays.copyOf(percents, count);
+        this.keys = new String[Math.max(0, count - 1)];
+
+        for (int i = 0; i < this.keys.length; i++) {
+            this.keys[i] = text.substring(this.percents[i] + 1, this.percents[i + 1]);
+        }
+    }
+
+    /**
+     *
+     * Replaces the bound tokens in the text
+     *
+     * @param bindings The bindings
+     * @return The rendered text, or null if the line was removed by a binding
+     */
+    public String render(PlaceholderBindings bindings) {
+        var last = 0;
+        StringBuilder builder = null;
+
+        for (int i = 0; i < this.keys.length;) {
+            var value = bindings.get(this.keys[i]);
+
+            if (value == null) {
+                if (bindings.isRemoved(this.keys[i])) {
+                    return null;
+                }
+
+                i++;
+                continue;
+            }
+
+            if (builder == null) {
+                builder = BUILDER.get();
+                builder.setLength(0);
+            }
+
+            builder.append(this.text, last, this.percents[i]).append(value);
+            last = this.percents[i + 1] + 1;
+            i += 2;
+        }
+
+        if (builder == null) {
+            return this.text;
+        }
+
+        var rendered = builder.append(this.text, last, this.text.length()).toString();
+
+        if (builder.capacity() > MAX_RETAINED_BUILDER_CAPACITY) {
+            BUILDER.remove();
+        }
+
+        return rendered;
+    }
+
+    /**
+     *
+     * Replaces the bound tokens in the text without copying the result into a new string
+     *
+     * @param bindings The bindings
+     * @return The rendered text, or null if the line was removed by a binding
+     */
+    public RenderedText resolve(PlaceholderBindings bindings) {
+        var last = 0;
+        RenderedText rendered = null;
+
+        for (int i = 0; i < this.keys.length;) {
+            var value = bindings.get(this.keys[i]);
+
+            if (value == null) {
+                if (bindings.isRemoved(this.keys[i])) {
+                    return null;
+                }
+
+                i++;
+                continue;
+            }
+
+            if (rendered == null) {
+                rendered = RenderedText.replaced(this.keys.length + 1);
+            }
+
+            rendered.add(this.text, last, this.percents[i]);
+            rendered.add(value, 0, value.length());
+            last = this.percents[i + 1] + 1;
+            i += 2;
+        }
+
+        if (rendered == null) {
+            return RenderedText.of(this.text);
+        }
+
+        rendered.add(this.text, last, this.text.length());
+        return rendered;
+    }
+
+    /**
+     *
+     * Resolves the text against the bindings, compiling it or reusing the cached template
+     *
+     * @param text The text
+     * @param bindings The bindings
+     * @return The rendered text, or null if the line was removed by a binding
+     */
+    public static RenderedText resolve(String text, PlaceholderBindings bindings) {
+        if (text.indexOf('%') == -1) {
+            return RenderedText.of(text);
+        }
+
+        return of(text).resolve(bindings);
+    }
+
+    /**
+     *
+     * Renders the text against the bindings, compiling it or reusing the cached template
+     *
+     * @param text The text
+     * @param bindings The bindings
+     * @return The rendered text, or null if the line was removed by a binding
+     */
+    public static String render(String text, PlaceholderBindings bindings) {
+        if (text.indexOf('%') == -1) {
+            return text;
+        }
+
+        return of(text).render(bindings);
+    }
+
+    /**
+     *
+     * Gets the compiled template for the text
+     *
+     * @param text The text
+     * @return The template
+     */
+    public static PlaceholderTemplate of(String text) {
+        return CACHE.get(text, PlaceholderTemplate::new);
+    }
+
+    /**
+     *
+     * Gets the usage statistics of the compiled template cache
+     *
+     * @return The stats
+     */
+    public static CacheStats getCacheStats() {
+        return CACHE.getStats();
+    }
+}
@@ -0,0 +1,155 @@
+package com.envyful.api.text.template;
+
+import java.util.Arrays;
+
+/**
+ *
+ * A line of text with its tokens replaced, held as the pieces of the original text and the bound values
+ * rather than being copied into a new string
+ * <br>
+ * Reading the characters in order is constant time per character. Instances are not thread safe
+ *
+ */
+public final class RenderedText implements CharSequence {
+
+    private String[] sources;
+    private int[] starts;
+    private int[] offsets;
+    private int count = 0;
+    private int length = 0;
+    private int cursor = 0;
+    private String string = null;
+
+    private final boolean replaced;
+
+    private RenderedText(int capacity, boolean replaced) {
+        this.sources = new String[capacity];
+        this.starts = new int[capacity];
+        this.offsets = new int[capacity + 1];
+        this.replaced = replaced;
+    }
+
+    /**
+     *
+     * Creates rendered text with nothing replaced
+     *
+     * @param text The text
+     * @return The rendered text
+     */
+    public static RenderedText of(String text) {
+        var rendered = new RenderedText(1, false);
+        rendered.add(text, 0, text.length());
+        rendered.string = text;
+        return rendered;
+    }
+
+    static RenderedText replaced(int capacity) {
+        return new RenderedText(capacity, true);
+    }
+
+    void add(String source, int start, int end) {
+        if (start >= end) {
+            return;
+        }
+
+        if (this.count == this.sources.length) {
+            this.sources = Arrays.copyOf(this.sources, this.count * 2);
+            this.starts = Arrays.copyOf(this.starts, this.count * 2);
+            this.offsets = Arrays.copyOf(this.offsets, this.count * 2 + 1);
+        }
+
+        this.sources[this.count] = source;
+        this.starts[this.count] = start;
+        this.offsets[this.count] = this.length;
+        this.length += end - start;
+        this.offsets[++this.count] = this.length;
+    }
+
+    /**
+     *
+     * Checks if any tokens were replaced, if not the text is exactly the text it was rendered from
+     *
+     * @return True if a token was replaced
+     */
+    public boolean isReplaced() {
+        return this.replaced;
+    }
+
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= this.length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + this.length);
+        }
+
+        var piece = this.cursor;
+
+        while (index < this.offsets[piece]) {
+            piece--;
+        }
+
+        while (index >= this.offsets[piece + 1]) {
+            piece++;
+        }
+
+        this.cursor = piece;
+        return this.sources[piece].charAt(this.starts[piece] + index - this.offsets[piece]);
+    }
+
+    /**
+     *
+     * Copies the characters between the indexes into a string
+     *
+     * @param start The start index, inclusive
+     * @param end The end index, exclusive
+     * @return The string
+     */
+    @Override
+    public String subSequence(int start, int end) {
+        if (start < 0 || end > this.length || start > end) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length " + this.length);
+        }
+
+        if (start == end) {
+            return "";
+        }
+
+        var piece = 0;
+
+        while (start >= this.offsets[piece + 1]) {
+            piece++;
+        }
+
+        var from = this.starts[piece] + start - this.offsets[piece];
+
+        if (end <= this.offsets[piece + 1]) {
+            return this.sources[piece].substring(from, from + end - start);
+        }
+
+        var builder = new StringBuilder(end - start);
+        builder.append(this.sources[piece], from, this.getEnd(piece));
+
+        while (end > this.offsets[++piece + 1]) {
+            builder.append(this.sources[piece], this.starts[piece], this.getEnd(piece));
+        }
+
+        return builder.append(this.sources[piece], this.starts[piece], this.starts[piece] + end - this.offsets[piece]).toString();
+    }
+
+    private int getEnd(int piece) {
+        return this.starts[piece] + this.offsets[piece + 1] - this.offsets[piece];
+    }
+
+    @Override
+    public String toString() {
+        if (this.string == null) {
+            this.string = this.subSequence(0, this.length);
+        }
+
+        return this.string;
+    }
+}
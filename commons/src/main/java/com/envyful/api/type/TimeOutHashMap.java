@@ -1,35 +1,64 @@
 package com.envyful.api.type;
 
+import com.envyful.api.type.cache.CacheStats;
+import com.envyful.api.type.cache.ExpiringCache;
+
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  *
- * A simple generic implementation of a Map that has a timeout for each entry. If the entry has not been accessed within
- * the timeout period, it will be removed from the map
+ * A simple generic implementation of a Map that has a timeout for each entry. If the entry was added longer ago
+ * than the timeout period, it will be removed from the map. A timeout of zero or less means entries time out
+ * immediately, so nothing is kept
+ * <br>
+ * This is a thread safe adapter over {@link ExpiringCache} so expired entries are also swept as the map is used.
+ * {@link #computeIfAbsent(Object, Function)} only runs the mapping function once for concurrent callers of the same key
+ * and the other compute, merge, and replace methods are atomic. As with the original map, putting a null value
+ * removes the key
  * <br>
- * The values are only invalidated when they are accessed, not when they are added
+ * The collection views returned are snapshots of the entries that hadn't expired when they were created
  *
  * @param <K> The type of the key
  * @param <V> The type of the value
  */
 public class TimeOutHashMap<K, V> implements Map<K, V> {
 
-    private final long cacheDuration;
-
-    private final Map<K, Pair<Long, V>> backingMap = new HashMap<>();
+    private final ExpiringCache<K, V> cache;
+    private final boolean caching;
 
     public TimeOutHashMap(long cacheDuration) {
-        this.cacheDuration = cacheDuration;
+        this(cacheDuration, -1);
+    }
+
+    public TimeOutHashMap(long cacheDuration, int maximumSize) {
+        this.caching = cacheDuration > 0;
+        this.cache = ExpiringCache.<K, V>builder()
+                .expireAfterWrite(cacheDuration, TimeUnit.MILLISECONDS)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     *
+     * Gets the usage statistics of the map
+     *
+     * @return The stats
+     */
+    public CacheStats getStats() {
+        return this.cache.getStats();
     }
 
     @Override
     public int size() {
-        return this.backingMap.size();
+        return this.cache.estimatedSize();
     }
 
     @Override
     public boolean isEmpty() {
-        return this.backingMap.isEmpty();
+        return this.size() == 0;
     }
 
     @Override
@@ -39,36 +68,30 @@ public class TimeOutHashMap<K, V> implements Map<K, V> {
 
     @Override
     public boolean containsValue(Object value) {
-        for (Pair<Long, V> longVPair : this.backingMap.values()) {
-            if (!this.hasTimedOut(longVPair.getX()) && Objects.equals(value, longVPair.getY())) {
-                return true;
-            }
-        }
-
-        return false;
+        return this.cache.snapshot().containsValue(value);
     }
 
     @Override
     public V get(Object key) {
-        Pair<Long, V> entry = this.backingMap.get(key);
-
-        if (entry == null || this.hasTimedOut(entry.getX())) {
-            return null;
-        }
-
-        return entry.getY();
+        return this.cache.getIfPresent(key);
     }
 
     @Override
     public V put(K key, V value) {
-        Pair<Long, V> old =  this.backingMap.put(key, Pair.of(System.currentTimeMillis(), value));
-        return old == null ? null : old.getY();
+        if (value == null) {
+            return this.remove(key);
+        }
+
+        if (!this.caching) {
+            return null;
+        }
+
+        return this.cache.put(key, value);
     }
 
     @Override
     public V remove(Object key) {
-        Pair<Long, V> old = this.backingMap.remove(key);
-        return old == null ? null : old.getY();
+        return this.cache.remove(key);
     }
 
     @Override
@@ -79,42 +102,108 @@ public class TimeOutHashMap<K, V> implements Map<K, V> {
     }
 
     @Override
-    public void clear() {
-        this.backingMap.clear();
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        if (!this.caching) {
+            return mappingFunction.apply(key);
+        }
+
+        return this.cache.get(key, mappingFunction);
     }
 
     @Override
-    public Set<K> keySet() {
-        return this.backingMap.keySet();
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        if (!this.caching) {
+            return remappingFunction.apply(key, null);
+        }
+
+        return this.cache.compute(key, remappingFunction);
     }
 
     @Override
-    public Collection<V> values() {
-        List<V> values = new ArrayList<>();
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        return this.compute(key, (k, old) -> old == null ? null : remappingFunction.apply(k, old));
+    }
 
-        for (Pair<Long, V> value : this.backingMap.values()) {
-            if (!this.hasTimedOut(value.getX())) {
-                values.add(value.getY());
-            }
-        }
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        return this.compute(key, (k, old) -> old == null ? value : remappingFunction.apply(old, value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V putIfAbsent(K key, V value) {
+        var previous = new Object[1];
+
+        this.compute(key, (k, old) -> {
+            previous[0] = old;
+            return old == null ? value : old;
+        });
 
-        return values;
+        return (V) previous[0];
     }
 
     @Override
-    public Set<Entry<K, V>> entrySet() {
-        Set<Entry<K, V>> values = new HashSet<>();
+    @SuppressWarnings("unchecked")
+    public V replace(K key, V value) {
+        var previous = new Object[1];
+
+        this.compute(key, (k, old) -> {
+            previous[0] = old;
+            return old == null ? null : value;
+        });
+
+        return (V) previous[0];
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        var replaced = new boolean[1];
+
+        this.compute(key, (k, old) -> {
+            replaced[0] = old != null && Objects.equals(old, oldValue);
+            return replaced[0] ? newValue : old;
+        });
+
+        return replaced[0];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean remove(Object key, Object value) {
+        var removed = new boolean[1];
+
+        this.compute((K) key, (k, old) -> {
+            removed[0] = old != null && Objects.equals(old, value);
+            return removed[0] ? null : old;
+        });
+
+        return removed[0];
+    }
 
-        for (Entry<K, Pair<Long, V>> value : this.backingMap.entrySet()) {
-            if (!this.hasTimedOut(value.getValue().getX())) {
-                values.add(Pair.of(value.getKey(), value.getValue().getValue()));
-            }
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        for (K key : this.keySet()) {
+            this.computeIfPresent(key, function);
         }
+    }
 
-        return values;
+    @Override
+    public void clear() {
+        this.cache.clear();
     }
 
-    private boolean hasTimedOut(long time) {
-        return (System.currentTimeMillis() - time) >= this.cacheDuration;
+    @Override
+    public Set<K> keySet() {
+        return this.cache.snapshot().keySet();
+    }
+
+    @Override
+    public Collection<V> values() {
+        return this.cache.snapshot().values();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return this.cache.snapshot().entrySet();
     }
 }
@@ -0,0 +1,116 @@
+package com.envyful.api.type.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *
+ * Counters describing how an {@link ExpiringCache} has been used
+ *
+ */
+public class CacheStats {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    void recordHit() {
+        this.hits.increment();
+    }
+
+    void recordMiss() {
+        this.misses.increment();
+    }
+
+    void recordLoad() {
+        this.loads.increment();
+    }
+
+    void recordCoalescedLoad() {
+        this.coalescedLoads.increment();
+    }
+
+    void recordEviction() {
+        this.evictions.increment();
+    }
+
+    void recordExpiration() {
+        this.expirations.increment();
+    }
+
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     *
+     * Gets the fraction of reads that found a value
+     *
+     * @return The hit rate between 0 and 1, or 1 if the cache hasn't been read
+     */
+    public double getHitRate() {
+        var hits = this.getHitCount();
+        var total = hits + this.getMissCount();
+
+        return total == 0 ? 1.0 : (double) hits / total;
+    }
+
+    /**
+     *
+     * Gets the number of times a loader was run
+     *
+     * @return The load count
+     */
+    public long getLoadCount() {
+        return this.loads.sum();
+    }
+
+    /**
+     *
+     * Gets the number of callers that waited on a load already in progress for the
+     * same key rather than running the loader themselves
+     *
+     * @return The coalesced load count
+     */
+    public long getCoalescedLoadCount() {
+        return this.coalescedLoads.sum();
+    }
+
+    /**
+     *
+     * Gets the number of entries removed to keep the cache within its maximum size
+     *
+     * @return The eviction count
+     */
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    /**
+     *
+     * Gets the number of entries removed because they expired
+     *
+     * @return The expiration count
+     */
+    public long getExpirationCount() {
+        return this.expirations.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{" +
+                "hits=" + this.getHitCount() +
+                ", misses=" + this.getMissCount() +
+                ", loads=" + this.getLoadCount() +
+                ", coalescedLoads=" + this.getCoalescedLoadCount() +
+                ", evictions=" + this.getEvictionCount() +
+                ", expirations=" + this.getExpirationCount() +
+                '}';
+    }
+}
@@ -0,0 +1,77 @@
+package com.envyful.api.type.cache;
+
+/**
+ *
+ * Decides which key is removed from a bounded {@link ExpiringCache} once it grows past its maximum size.
+ * <br>
+ * Implementations do not need to be thread safe as the cache only calls them while holding the policy's lock
+ *
+ * @param <K> The type of the key
+ */
+public interface EvictionPolicy<K> {
+
+    /**
+     *
+     * Called when a key is added to the cache
+     *
+     * @param key The key
+     */
+    void recordInsert(K key);
+
+    /**
+     *
+     * Called when an existing key is read or replaced
+     *
+     * @param key The key
+     */
+    void recordAccess(K key);
+
+    /**
+     *
+     * Called when a key is removed from the cache for any reason
+     *
+     * @param key The key
+     */
+    void recordRemoval(K key);
+
+    /**
+     *
+     * Picks the key to remove now that the cache is over its maximum size
+     *
+     * @param candidate The key that was just inserted
+     * @return The key to remove, or null if there's nothing to remove
+     */
+    K selectVictim(K candidate);
+
+    /**
+     *
+     * Forgets every key tracked by the policy
+     *
+     */
+    void clear();
+
+    /**
+     *
+     * Creates a policy that removes the least recently used key
+     *
+     * @return The policy
+     * @param <K> The type of the key
+     */
+    static <K> EvictionPolicy<K> lru() {
+        return new LruEvictionPolicy<>();
+    }
+
+    /**
+     *
+     * Creates a policy that only admits a new key over the least recently used key if the new key
+     * has been requested more often. This keeps frequently read entries in the cache when a burst
+     * of one-off keys would otherwise flush them out
+     *
+     * @param maximumSize The maximum size of the cache, used to size the frequency sketch
+     * @return The policy
+     * @param <K> The type of the key
+     */
+    static <K> EvictionPolicy<K> tinyLfu(int maximumSize) {
+        return new TinyLfuEvictionPolicy<>(maximumSize);
+    }
+}
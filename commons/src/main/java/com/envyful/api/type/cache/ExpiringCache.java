@@ -0,0 +1,480 @@
+package com.envyful.api.type.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ *
+ * A thread safe cache whose entries can expire after being written or after last being read,
+ * and which can be bounded to a maximum size using an {@link EvictionPolicy}
+ * <br>
+ * Expired entries are removed when they're read and by a sweep of the whole cache that runs
+ * on the calling thread every so often as the cache is used, so entries that are never read
+ * again do not sit in memory forever. {@link #cleanUp()} can also be called to sweep manually
+ * <br>
+ * Loads through {@link #get(Object, Function)} are single-flight: concurrent callers for the
+ * same key wait on the first caller's load rather than running the loader themselves
+ *
+ * @param <K> The type of the key
+ * @param <V> The type of the value
+ */
+public class ExpiringCache<K, V> {
+
+    private static final int OPERATIONS_PER_SWEEP_CHECK = 64;
+
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+    private final CacheStats stats = new CacheStats();
+    private final AtomicInteger operations = new AtomicInteger();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    private final long expireAfterWrite;
+    private final long expireAfterAccess;
+    private final long sweepInterval;
+    private final int maximumSize;
+    private final EvictionPolicy<K> evictionPolicy;
+    private final LongSupplier ticker;
+
+    private volatile long lastSweep;
+
+    private ExpiringCache(Builder<K, V> builder) {
+        this.expireAfterWrite = builder.expireAfterWrite;
+        this.expireAfterAccess = builder.expireAfterAccess;
+        this.maximumSize = builder.maximumSize;
+        this.evictionPolicy = builder.maximumSize < 0 ? null :
+                (builder.evictionPolicy == null ? EvictionPolicy.lru() : builder.evictionPolicy);
+        this.ticker = builder.ticker;
+        this.sweepInterval = Math.min(
+                this.expireAfterWrite > 0 ? this.expireAfterWrite : Long.MAX_VALUE,
+                this.expireAfterAccess > 0 ? this.expireAfterAccess : Long.MAX_VALUE
+        );
+        this.lastSweep = this.ticker.getAsLong();
+    }
+
+    /**
+     *
+     * Gets the value for the key if it's present and hasn't expired
+     *
+     * @param key The key
+     * @return The value, or null if not present
+     */
+    public V getIfPresent(Object key) {
+        var value = this.read(key);
+
+        if (value == null) {
+            this.stats.recordMiss();
+        } else {
+            this.stats.recordHit();
+        }
+
+        this.afterOperation();
+        return value;
+    }
+
+    /**
+     *
+     * Gets the value for the key, loading it with the given function if it's not present.
+     * <br>
+     * If another thread is already loading the same key this waits for that load instead of
+     * running the function again. A null result is returned to every waiting caller but is not
+     * cached
+     *
+     * @param key The key
+     * @param loader The function to load the value
+     * @return The value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        var value = this.getIfPresent(key);
+
+        if (value != null) {
+            return value;
+        }
+
+        var future = new CompletableFuture<V>();
+        var inFlight = this.loading.putIfAbsent(key, future);
+
+        if (inFlight != null) {
+            this.stats.recordCoalescedLoad();
+
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+
+                throw e;
+            }
+        }
+
+        try {
+            value = this.read(key);
+
+            if (value == null) {
+                this.stats.recordLoad();
+                value = loader.apply(key);
+
+                if (value != null) {
+                    this.put(key, value);
+                }
+            }
+
+            future.complete(value);
+            return value;
+        } catch (Throwable throwable) {
+            future.completeExceptionally(throwable);
+            throw throwable;
+        } finally {
+            this.loading.remove(key, future);
+        }
+    }
+
+    /**
+     *
+     * Sets the value for the key
+     *
+     * @param key The key
+     * @param value The value
+     * @return The previous value that hadn't expired, or null
+     */
+    public V put(K key, V value) {
+        Objects.requireNonNull(value, "Cannot cache a null value");
+
+        var now = this.hasExpiry() ? this.ticker.getAsLong() : 0L;
+        var old = this.entries.put(key, new Entry<>(value, now));
+
+        if (this.evictionPolicy != null) {
+            synchronized (this.evictionPolicy) {
+                if (old == null) {
+                    this.evictionPolicy.recordInsert(key);
+                } else {
+                    this.evictionPolicy.recordAccess(key);
+                }
+            }
+
+            this.evictIfNeeded(key);
+        }
+
+        this.afterOperation();
+        return old == null || this.isExpired(old, now) ? null : old.value;
+    }
+
+    /**
+     *
+     * Atomically replaces the value for the key with the result of the function, which is passed the
+     * current value or null if there isn't one or it has expired. A null result removes the key
+     * <br>
+     * Returning the current value unchanged keeps its original write time
+     *
+     * @param key The key
+     * @param remappingFunction The function to compute the new value
+     * @return The new value, or null if the key was removed
+     */
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        var now = this.hasExpiry() ? this.ticker.getAsLong() : 0L;
+        var previous = new AtomicBoolean();
+        var updated = this.entries.compute(key, (k, entry) -> {
+            previous.set(entry != null);
+
+            var current = entry == null || this.isExpired(entry, now) ? null : entry.value;
+            var value = remappingFunction.apply(k, current);
+
+            if (value == null) {
+                return null;
+            }
+
+            return value == current ? entry : new Entry<>(value, now);
+        });
+
+        if (this.evictionPolicy != null) {
+            if (updated == null) {
+                if (previous.get()) {
+                    this.onRemoval(key);
+                }
+            } else {
+                synchronized (this.evictionPolicy) {
+                    if (previous.get()) {
+                        this.evictionPolicy.recordAccess(key);
+                    } else {
+                        this.evictionPolicy.recordInsert(key);
+                    }
+                }
+
+                this.evictIfNeeded(key);
+            }
+        }
+
+        this.afterOperation();
+        return updated == null ? null : updated.value;
+    }
+
+    /**
+     *
+     * Removes the key from the cache
+     *
+     * @param key The key
+     * @return The previous value that hadn't expired, or null
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        var old = this.entries.remove(key);
+
+        if (old == null) {
+            return null;
+        }
+
+        this.onRemoval((K) key);
+        return this.isExpired(old, this.hasExpiry() ? this.ticker.getAsLong() : 0L) ? null : old.value;
+    }
+
+    /**
+     *
+     * Removes every entry from the cache
+     *
+     */
+    public void clear() {
+        this.entries.clear();
+
+        if (this.evictionPolicy != null) {
+            synchronized (this.evictionPolicy) {
+                this.evictionPolicy.clear();
+            }
+        }
+    }
+
+    /**
+     *
+     * Gets the number of entries in the cache. This can include entries that have expired
+     * but have not yet been swept
+     *
+     * @return The size
+     */
+    public int estimatedSize() {
+        return this.entries.size();
+    }
+
+    /**
+     *
+     * Passes every entry that hasn't expired to the consumer
+     *
+     * @param consumer The consumer
+     */
+    public void forEach(BiConsumer<? super K, ? super V> consumer) {
+        var now = this.hasExpiry() ? this.ticker.getAsLong() : 0L;
+
+        for (var entry : this.entries.entrySet()) {
+            if (!this.isExpired(entry.getValue(), now)) {
+                consumer.accept(entry.getKey(), entry.getValue().value);
+            }
+        }
+    }
+
+    /**
+     *
+     * Copies every entry that hasn't expired into a new map
+     *
+     * @return The copied entries
+     */
+    public Map<K, V> snapshot() {
+        Map<K, V> snapshot = new HashMap<>();
+        this.forEach(snapshot::put);
+        return snapshot;
+    }
+
+    /**
+     *
+     * Removes every expired entry from the cache
+     *
+     */
+    public void cleanUp() {
+        if (!this.hasExpiry()) {
+            return;
+        }
+
+        var now = this.ticker.getAsLong();
+        this.lastSweep = now;
+
+        for (var entry : this.entries.entrySet()) {
+            if (this.isExpired(entry.getValue(), now) && this.entries.remove(entry.getKey(), entry.getValue())) {
+                this.stats.recordExpiration();
+                this.onRemoval(entry.getKey());
+            }
+        }
+    }
+
+    /**
+     *
+     * Gets the usage statistics of the cache
+     *
+     * @return The stats
+     */
+    public CacheStats getStats() {
+        return this.stats;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V read(Object key) {
+        var entry = this.entries.get(key);
+
+        if (entry == null) {
+            return null;
+        }
+
+        if (!this.hasExpiry() && this.evictionPolicy == null) {
+            return entry.value;
+        }
+
+        var now = this.hasExpiry() ? this.ticker.getAsLong() : 0L;
+
+        if (this.isExpired(entry, now)) {
+            if (this.entries.remove(key, entry)) {
+                this.stats.recordExpiration();
+                this.onRemoval((K) key);
+            }
+
+            return null;
+        }
+
+        entry.accessed = now;
+
+        if (this.evictionPolicy != null) {
+            synchronized (this.evictionPolicy) {
+                this.evictionPolicy.recordAccess((K) key);
+            }
+        }
+
+        return entry.value;
+    }
+
+    private void evictIfNeeded(K candidate) {
+        while (this.entries.size() > this.maximumSize) {
+            K victim;
+
+            synchronized (this.evictionPolicy) {
+                victim = this.evictionPolicy.selectVictim(candidate);
+
+                if (victim == null) {
+                    return;
+                }
+
+                this.evictionPolicy.recordRemoval(victim);
+            }
+
+            if (this.entries.remove(victim) != null) {
+                this.stats.recordEviction();
+            }
+        }
+    }
+
+    private void onRemoval(K key) {
+        if (this.evictionPolicy == null) {
+            return;
+        }
+
+        synchronized (this.evictionPolicy) {
+            this.evictionPolicy.recordRemoval(key);
+        }
+    }
+
+    private void afterOperation() {
+        if (!this.hasExpiry() || (this.operations.incrementAndGet() % OPERATIONS_PER_SWEEP_CHECK) != 0) {
+            return;
+        }
+
+        if ((this.ticker.getAsLong() - this.lastSweep) < this.sweepInterval || !this.sweeping.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            this.cleanUp();
+        } finally {
+            this.sweeping.set(false);
+        }
+    }
+
+    private boolean hasExpiry() {
+        return this.expireAfterWrite > 0 || this.expireAfterAccess > 0;
+    }
+
+    private boolean isExpired(Entry<V> entry, long now) {
+        return (this.expireAfterWrite > 0 && (now - entry.written) >= this.expireAfterWrite)
+                || (this.expireAfterAccess > 0 && (now - entry.accessed) >= this.expireAfterAccess);
+    }
+
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>();
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+        private final long written;
+
+        private volatile long accessed;
+
+        private Entry(V value, long written) {
+            this.value = value;
+            this.written = written;
+            this.accessed = written;
+        }
+    }
+
+    public static class Builder<K, V> {
+
+        private long expireAfterWrite = -1;
+        private long expireAfterAccess = -1;
+        private int maximumSize = -1;
+        private EvictionPolicy<K> evictionPolicy;
+        private LongSupplier ticker = System::nanoTime;
+
+        Builder() {}
+
+        public Builder<K, V> expireAfterWrite(long duration, TimeUnit timeUnit) {
+            this.expireAfterWrite = timeUnit.toNanos(duration);
+            return this;
+        }
+
+        public Builder<K, V> expireAfterAccess(long duration, TimeUnit timeUnit) {
+            this.expireAfterAccess = timeUnit.toNanos(duration);
+            return this;
+        }
+
+        public Builder<K, V> maximumSize(int maximumSize) {
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        public Builder<K, V> evictionPolicy(EvictionPolicy<K> evictionPolicy) {
+            this.evictionPolicy = evictionPolicy;
+            return this;
+        }
+
+        /**
+         *
+         * Sets the source of time, in nanoseconds, used to expire entries
+         *
+         * @param ticker The ticker
+         * @return The builder
+         */
+        public Builder<K, V> ticker(LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        public ExpiringCache<K, V> build() {
+            return new ExpiringCache<>(this);
+        }
+    }
+}
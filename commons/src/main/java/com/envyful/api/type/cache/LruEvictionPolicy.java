@@ -0,0 +1,42 @@
+package com.envyful.api.type.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ *
+ * An {@link EvictionPolicy} that removes the least recently used key
+ *
+ * @param <K> The type of the key
+ */
+public class LruEvictionPolicy<K> implements EvictionPolicy<K> {
+
+    protected final Map<K, Boolean> order = new LinkedHashMap<>(16, 0.75F, true);
+
+    @Override
+    public void recordInsert(K key) {
+        this.order.put(key, Boolean.TRUE);
+    }
+
+    @Override
+    public void recordAccess(K key) {
+        this.order.get(key);
+    }
+
+    @Override
+    public void recordRemoval(K key) {
+        this.order.remove(key);
+    }
+
+    @Override
+    public K selectVictim(K candidate) {
+        Iterator<K> iterator = this.order.keySet().iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    @Override
+    public void clear() {
+        this.order.clear();
+    }
+}
@@ -0,0 +1,116 @@
+package com.envyful.api.type.cache;
+
+import java.util.Arrays;
+
+/**
+ *
+ * An {@link EvictionPolicy} that keeps recency order like {@link LruEvictionPolicy} but uses a
+ * count-min sketch of how often each key is requested to decide whether a newly inserted key
+ * is worth keeping over the least recently used one
+ * <br>
+ * The sketch halves all of its counters periodically so that keys that were popular a long time
+ * ago don't stay in the cache forever
+ *
+ * @param <K> The type of the key
+ */
+public class TinyLfuEvictionPolicy<K> extends LruEvictionPolicy<K> {
+
+    private static final int DEPTH = 4;
+    private static final int[] SEEDS = {0x97CB3127, 0x6B43A9B5, 0x8F7A4E2D, 0x5BD1E995};
+
+    private final int[][] counters;
+    private final int mask;
+    private final int resetThreshold;
+
+    private int additions = 0;
+
+    public TinyLfuEvictionPolicy(int maximumSize) {
+        var width = Integer.highestOneBit(Math.max(16, maximumSize) - 1) << 1;
+
+        this.counters = new int[DEPTH][width];
+        this.mask = width - 1;
+        this.resetThreshold = width * 10;
+    }
+
+    @Override
+    public void recordInsert(K key) {
+        super.recordInsert(key);
+        this.increment(key);
+    }
+
+    @Override
+    public void recordAccess(K key) {
+        super.recordAccess(key);
+        this.increment(key);
+    }
+
+    @Override
+    public K selectVictim(K candidate) {
+        var eldest = super.selectVictim(candidate);
+
+        if (eldest == null || eldest.equals(candidate)) {
+            return eldest;
+        }
+
+        return this.frequency(candidate) > this.frequency(eldest) ? eldest : candidate;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+
+        for (var row : this.counters) {
+            Arrays.fill(row, 0);
+        }
+
+        this.additions = 0;
+    }
+
+    private void increment(K key) {
+        var hash = spread(key.hashCode());
+
+        for (int i = 0; i < DEPTH; i++) {
+            var index = this.index(hash, i);
+
+            if (this.counters[i][index] < Integer.MAX_VALUE) {
+                this.counters[i][index]++;
+            }
+        }
+
+        if (++this.additions >= this.resetThreshold) {
+            this.reset();
+        }
+    }
+
+    private int frequency(K key) {
+        var hash = spread(key.hashCode());
+        var frequency = Integer.MAX_VALUE;
+
+        for (int i = 0; i < DEPTH; i++) {
+            frequency = Math.min(frequency, this.counters[i][this.index(hash, i)]);
+        }
+
+        return frequency;
+    }
+
+    private void reset() {
+        for (var row : this.counters) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] >>>= 1;
+            }
+        }
+
+        this.additions >>>= 1;
+    }
+
+    private int index(int hash, int row) {
+        var mixed = hash * SEEDS[row];
+        return (mixed ^ (mixed >>> 16)) & this.mask;
+    }
+
+    private static int spread(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x45D9F3B;
+        return hash ^ (hash >>> 16);
+    }
+}
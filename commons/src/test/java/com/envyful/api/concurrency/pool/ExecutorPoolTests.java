@@ -0,0 +1,71 @@
+package com.envyful.api.concurrency.pool;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class ExecutorPoolTests {
+
+    // Checks the gauges count tasks waiting and running, and record latency
+    @Test
+    void gaugeTest() throws InterruptedException {
+        var pool = ExecutorPool.builder("test").threads(1).build();
+        var release = new CountDownLatch(1);
+        var done = new CountDownLatch(3);
+
+        for (int i = 0; i < 3; i++) {
+            pool.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                done.countDown();
+            });
+        }
+
+        Thread.sleep(50);
+        assert pool.getActiveThreads() == 1 : pool.getActiveThreads();
+        assert pool.getQueueDepth() == 2 : pool.getQueueDepth();
+
+        release.countDown();
+        assert done.await(5, TimeUnit.SECONDS);
+        Thread.sleep(20);
+
+        assert pool.getStartedTasks() == 3;
+        assert pool.getQueueDepth() == 0;
+        assert pool.getMaxLatency() >= TimeUnit.MILLISECONDS.toNanos(40);
+        assert pool.getAverageLatency() > 0;
+        pool.shutdown();
+    }
+
+    // Checks executors without their own gauges are measured by the pool
+    @Test
+    void wrappedExecutorTest() throws InterruptedException {
+        var pool = ExecutorPool.of("wrapped", Executors.newSingleThreadExecutor());
+        var release = new CountDownLatch(1);
+        var done = new CountDownLatch(1);
+
+        pool.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            done.countDown();
+        });
+
+        Thread.sleep(50);
+        assert pool.getActiveThreads() == 1;
+
+        release.countDown();
+        assert done.await(5, TimeUnit.SECONDS);
+        Thread.sleep(20);
+        assert pool.getActiveThreads() == 0;
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,64 @@
+package com.envyful.api.concurrency.tick;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SyncTaskQueueTests {
+
+    // Checks player tasks run before background tasks and overflow is deferred to the next drain
+    @Test
+    void priorityAndBudgetTest() {
+        var time = new AtomicLong();
+        var queue = SyncTaskQueue.builder()
+                .tickBudget(10, TimeUnit.NANOSECONDS)
+                .ticker(time::get)
+                .build();
+        List<String> order = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            var name = "background" + i;
+            queue.submit(() -> {
+                order.add(name);
+                time.addAndGet(6);
+            }, SyncPriority.BACKGROUND);
+        }
+
+        for (int i = 0; i < 3; i++) {
+            var name = "player" + i;
+            queue.submit(() -> {
+                order.add(name);
+                time.addAndGet(6);
+            }, SyncPriority.PLAYER);
+        }
+
+        queue.drain();
+        assert order.equals(List.of("player0", "player1", "background0")) : order;
+        assert queue.getQueueDepth(SyncPriority.PLAYER) == 1;
+        assert queue.getQueueDepth(SyncPriority.BACKGROUND) == 2;
+        assert queue.getDeferredTicks() == 1;
+
+        queue.drain();
+        queue.drain();
+        assert order.size() == 6 : order;
+        assert queue.getQueueDepth() == 0;
+        assert queue.getTasksRun() == 6;
+        assert queue.getTotalNanos() == 36;
+    }
+
+    // Checks a failing task doesn't stop the rest of the queue
+    @Test
+    void failingTaskTest() {
+        var queue = SyncTaskQueue.builder().ticker(() -> 0L).build();
+        List<Integer> ran = new ArrayList<>();
+
+        queue.submit(() -> { throw new IllegalStateException(); }, SyncPriority.PLAYER);
+        queue.submit(() -> ran.add(1), SyncPriority.PLAYER);
+        queue.drain();
+
+        assert ran.equals(List.of(1));
+    }
+}
@@ -0,0 +1,136 @@
+package com.envyful.api.concurrency.tick;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TickSchedulerTests {
+
+    // Checks tasks run on the tick they're due, including delays longer than the wheel
+    @Test
+    void delayTest() {
+        var scheduler = TickScheduler.builder().wheelSize(8).build();
+        List<Long> ranAt = new ArrayList<>();
+
+        scheduler.schedule(() -> ranAt.add(scheduler.getCurrentTick()), 1);
+        scheduler.schedule(() -> ranAt.add(scheduler.getCurrentTick()), 5);
+        scheduler.schedule(() -> ranAt.add(scheduler.getCurrentTick()), 20);
+
+        for (int i = 0; i < 25; i++) {
+            scheduler.tick();
+        }
+
+        assert ranAt.equals(List.of(1L, 5L, 20L)) : ranAt;
+        assert scheduler.getPendingCount() == 0;
+    }
+
+    // Checks tasks due on the same tick run in the order they were scheduled, including duplicates
+    @Test
+    void fifoTest() {
+        var scheduler = TickScheduler.builder().build();
+        List<Integer> order = new ArrayList<>();
+        Runnable duplicate = () -> order.add(0);
+
+        for (int i = 1; i <= 5; i++) {
+            int value = i;
+            scheduler.schedule(() -> order.add(value), 3);
+        }
+
+        scheduler.schedule(duplicate, 3);
+        scheduler.schedule(duplicate, 3);
+
+        for (int i = 0; i < 3; i++) {
+            scheduler.tick();
+        }
+
+        assert order.equals(List.of(1, 2, 3, 4, 5, 0, 0)) : order;
+
+        // A task scheduled later with a shorter delay that becomes due on the same tick still runs second
+        order.clear();
+        scheduler.schedule(() -> order.add(1), 3);
+        scheduler.tick();
+        scheduler.schedule(() -> order.add(2), 3);
+        scheduler.tick();
+        scheduler.schedule(() -> order.add(3), 1);
+        scheduler.tick();
+
+        assert order.equals(List.of(1, 3)) : order;
+
+        scheduler.tick();
+
+        assert order.equals(List.of(1, 3, 2)) : order;
+    }
+
+    // Checks cancelled tasks don't run and handles report their state
+    @Test
+    void cancelTest() {
+        var scheduler = TickScheduler.builder().build();
+        var ran = new AtomicBoolean();
+        var cancelled = scheduler.schedule(() -> ran.set(true), 2);
+        var completed = scheduler.schedule(() -> {}, 2);
+        var failed = scheduler.schedule(() -> { throw new IllegalStateException(); }, 2);
+
+        assert cancelled.cancel();
+
+        scheduler.tick();
+        scheduler.tick();
+
+        assert !ran.get();
+        assert cancelled.getState() == TickTask.State.CANCELLED;
+        assert completed.getState() == TickTask.State.COMPLETED;
+        assert failed.getState() == TickTask.State.FAILED;
+        assert !completed.cancel();
+        assert scheduler.getPendingCount() == 0;
+    }
+
+    // Checks work over the tick budget is spilled to the next tick in order
+    @Test
+    void budgetTest() {
+        var time = new AtomicLong();
+        var scheduler = TickScheduler.builder()
+                .tickBudget(10, TimeUnit.NANOSECONDS)
+                .ticker(time::get)
+                .build();
+        List<Integer> order = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            int value = i;
+            scheduler.schedule(() -> {
+                order.add(value);
+                time.addAndGet(6);
+            }, 1);
+        }
+
+        scheduler.tick();
+        assert order.equals(List.of(0, 1)) : order;
+        assert scheduler.getSpilledCount() == 2;
+
+        scheduler.schedule(() -> order.add(4), 1);
+        scheduler.tick();
+        assert order.equals(List.of(0, 1, 2, 3)) : order;
+
+        scheduler.tick();
+        assert order.equals(List.of(0, 1, 2, 3, 4)) : order;
+    }
+
+    // Checks conditional tasks run once their predicate passes
+    @Test
+    void conditionTest() {
+        var scheduler = TickScheduler.builder().build();
+        var ready = new AtomicBoolean();
+        var ran = new AtomicBoolean();
+        var task = scheduler.scheduleWhen(__ -> ready.get(), () -> ran.set(true), 1);
+
+        scheduler.tick();
+        scheduler.tick();
+        assert !ran.get() && task.getState() == TickTask.State.SCHEDULED;
+
+        ready.set(true);
+        scheduler.tick();
+        assert ran.get() && task.getState() == TickTask.State.COMPLETED;
+    }
+}
@@ -0,0 +1,19 @@
+package com.envyful.api.config.type;
+
+import org.junit.jupiter.api.Test;
+
+public class ConfigRandomWeightedSetTests {
+
+    // Checks that entries for the same object share one slot with their weights summed
+    @Test
+    void duplicateEntryCheck() {
+        ConfigRandomWeightedSet<String> weightedSet = ConfigRandomWeightedSet.builder("hello1", 1)
+                .entry("hello2", 80)
+                .entry("hello1", 19)
+                .build();
+
+        assert weightedSet.getSampler().getTotalWeight() == 100;
+        assert weightedSet.getSampler().size() == 2;
+        assert weightedSet.getWeightedSet().getTotalWeight() == 100;
+    }
+}
@@ -0,0 +1,129 @@
+package com.envyful.api.config.yaml;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.yaml.NodeStyle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class YamlConfigDirectoryTests {
+
+    // Checks that added, modified, and deleted files are reported and reflected in the loaded instances
+    @Test
+    void addModifyDeleteCheck() throws IOException {
+        var directory = Files.createTempDirectory("configs");
+        var first = write(directory.resolve("first.yml"), "name: first");
+
+        try (var configs = open(directory)) {
+            assert configs.getInstances().size() == 1;
+            assert configs.getInstance(first).name.equals("first");
+
+            var second = write(directory.resolve("second.yml"), "name: second");
+            var change = configs.reload();
+
+            assert change.getAdded().size() == 1 && change.getAdded().get(0).name.equals("second");
+            assert configs.getInstances().size() == 2;
+
+            write(first, "name: changed");
+            change = configs.reload();
+
+            assert change.getAdded().isEmpty() && change.getUpdated().size() == 1;
+            assert change.getUpdated().get(0).getX().name.equals("first");
+            assert change.getUpdated().get(0).getY().name.equals("changed");
+            assert configs.getInstance(first).name.equals("changed");
+
+            Files.delete(second);
+            change = configs.reload();
+
+            assert change.getRemoved().size() == 1 && change.getRemoved().get(0).name.equals("second");
+            assert configs.getInstances().size() == 1;
+            assert configs.getInstance(second) == null;
+            assert configs.reload().isEmpty();
+        }
+    }
+
+    // Checks that a file that fails to parse keeps its previously loaded instance
+    @Test
+    void parseFailureCheck() throws IOException {
+        var directory = Files.createTempDirectory("configs");
+        var file = write(directory.resolve("config.yml"), "name: valid");
+
+        try (var configs = open(directory)) {
+            var previous = configs.getInstance(file);
+
+            write(file, "name: [unclosed");
+
+            assert configs.reload().isEmpty();
+            assert configs.getInstance(file) == previous;
+            assert configs.getInstances().size() == 1;
+        }
+    }
+
+    // Checks that configs in nested directories are loaded, and removed when their directory is deleted
+    @Test
+    void nestedDirectoryCheck() throws IOException {
+        var directory = Files.createTempDirectory("configs");
+        var nested = write(directory.resolve("a").resolve("b").resolve("nested.yml"), "name: nested");
+
+        try (var configs = open(directory)) {
+            assert configs.getInstance(nested).name.equals("nested");
+
+            var later = write(directory.resolve("c").resolve("later.yml"), "name: later");
+
+            assert configs.reload().getAdded().size() == 1;
+            assert configs.getInstance(later).name.equals("later");
+
+            Files.delete(later);
+            Files.delete(later.getParent());
+
+            assert configs.reload().getRemoved().size() == 1;
+            assert configs.getInstances().size() == 1;
+        }
+    }
+
+    // Checks that changes made on disk are picked up by the watcher and handed to listeners on the watch thread
+    @Test
+    void watchCheck() throws Exception {
+        var directory = Files.createTempDirectory("configs");
+        var thread = new CompletableFuture<String>();
+
+        try (var configs = open(directory)) {
+            configs.addListener(change -> {
+                if (change.getAdded().size() == 1) {
+                    thread.complete(Thread.currentThread().getName());
+                }
+            });
+            configs.startWatching();
+
+            var file = write(directory.resolve("watched.yml"), "name: watched");
+
+            assert thread.get(30, TimeUnit.SECONDS).startsWith("envyware_config_watch_");
+            assert configs.getInstance(file) != null;
+        }
+    }
+
+    private static YamlConfigDirectory<TestConfig> open(Path directory) throws IOException {
+        return new YamlConfigDirectory<>(TestConfig.class, directory, List.of(), NodeStyle.BLOCK);
+    }
+
+    private static Path write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content + System.lineSeparator());
+        return file;
+    }
+
+    @ConfigSerializable
+    public static class TestConfig extends AbstractYamlConfig {
+
+        private String name = "default";
+
+        public TestConfig() {
+            super();
+        }
+    }
+}
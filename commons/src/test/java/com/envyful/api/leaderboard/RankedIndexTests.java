@@ -0,0 +1,94 @@
+package com.envyful.api.leaderboard;
+
+import com.envyful.api.database.leaderboard.Order;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class RankedIndexTests {
+
+    // Checks that pages come back highest score first for a descending index
+    @Test
+    void descendingPageCheck() {
+        RankedIndex<String> index = new RankedIndex<>(Order.DESCENDING);
+
+        for (int i = 0; i < 100; i++) {
+            index.update(UUID.randomUUID(), i, String.valueOf(i));
+        }
+
+        assert index.getRange(0, 3).equals(List.of("99", "98", "97"));
+        assert index.getRange(98, 5).equals(List.of("1", "0"));
+        assert index.getRange(100, 5).isEmpty();
+    }
+
+    // Checks that updating a score moves the id and keeps the rank in line with a full sort
+    @Test
+    void updateRankCheck() {
+        RankedIndex<UUID> index = new RankedIndex<>(Order.ASCENDING);
+        Map<UUID, Double> scores = new HashMap<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            UUID id = UUID.randomUUID();
+            double score = ThreadLocalRandom.current().nextInt(50);
+            scores.put(id, score);
+            index.update(id, score, id);
+        }
+
+        for (UUID id : new ArrayList<>(scores.keySet()).subList(0, 200)) {
+            double score = ThreadLocalRandom.current().nextInt(50);
+            scores.put(id, score);
+            index.update(id, score, id);
+        }
+
+        List<UUID> sorted = new ArrayList<>(scores.keySet());
+        sorted.sort(Comparator.<UUID>comparingDouble(scores::get).thenComparing(Comparator.naturalOrder()));
+
+        assert index.size() == 1_000;
+        assert index.getRange(0, 1_000).equals(sorted);
+
+        for (UUID id : sorted) {
+            var above = scores.values().stream().filter(score -> score < scores.get(id)).count();
+            assert index.rank(id) == above;
+        }
+    }
+
+    // Checks that tied scores share a rank, as with the SQL count of rows ranked above
+    @Test
+    void tiedRankCheck() {
+        RankedIndex<String> index = new RankedIndex<>(Order.DESCENDING);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+
+        index.update(first, 10, "first");
+        index.update(second, 10, "second");
+        index.update(third, 5, "third");
+
+        assert index.rank(first) == 0;
+        assert index.rank(second) == 0;
+        assert index.rank(third) == 2;
+        assert index.getRange(0, 3).size() == 3;
+    }
+
+    // Checks that removed ids are no longer ranked
+    @Test
+    void removeCheck() {
+        RankedIndex<String> index = new RankedIndex<>(Order.DESCENDING);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        index.update(first, 10, "first");
+        index.update(second, 5, "second");
+
+        assert index.remove(first);
+        assert !index.remove(first);
+        assert index.rank(first) == -1;
+        assert index.rank(second) == 0;
+    }
+}
@@ -0,0 +1,99 @@
+package com.envyful.api.math;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ConcurrentWeightedSetTests {
+
+    // Checks that concurrent adds from several threads are all kept
+    @Test
+    void concurrentAddCheck() throws InterruptedException {
+        ConcurrentWeightedSet<Integer> set = new ConcurrentWeightedSet<>();
+        Thread[] threads = new Thread[4];
+
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t * 250;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 250; i++) {
+                    set.add(offset + i, 1);
+                }
+            });
+            threads[t].start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assert set.size() == 1_000;
+        assert set.getTotalWeight() == 1_000;
+    }
+
+    // Checks that draws made while the set is being replaced only ever see a complete set of items
+    @Test
+    void replaceWhileDrawingCheck() throws InterruptedException {
+        ConcurrentWeightedSet<String> set = new ConcurrentWeightedSet<>(Map.of("a1", 1.0, "a2", 1.0));
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicBoolean failed = new AtomicBoolean();
+        CountDownLatch started = new CountDownLatch(1);
+
+        Thread reader = new Thread(() -> {
+            started.countDown();
+
+            while (running.get()) {
+                var drawn = set.sampleWithoutReplacement(2);
+
+                if (drawn.size() != 2 || drawn.get(0).charAt(0) != drawn.get(1).charAt(0)) {
+                    failed.set(true);
+                }
+            }
+        });
+
+        reader.start();
+        started.await();
+
+        for (int i = 0; i < 10_000; i++) {
+            set.replace(i % 2 == 0 ? Map.of("b1", 1.0, "b2", 2.0) : Map.of("a1", 1.0, "a2", 2.0));
+        }
+
+        running.set(false);
+        reader.join();
+
+        assert !failed.get();
+    }
+
+    // Checks that adding an item twice adds to its weight rather than replacing it
+    @Test
+    void duplicateAddCheck() {
+        ConcurrentWeightedSet<String> set = new ConcurrentWeightedSet<String>()
+                .add("a", 1)
+                .add("b", 80)
+                .add("a", 19);
+
+        assert set.size() == 2;
+        assert set.getWeights().get("a") == 20;
+        assert set.getTotalWeight() == 100;
+    }
+
+    // Checks that items without a positive weight are not added
+    @Test
+    void nonPositiveWeightCheck() {
+        ConcurrentWeightedSet<String> set = new ConcurrentWeightedSet<String>()
+                .add("a", 0)
+                .add("b", -1)
+                .add("c", 2);
+
+        set.replace(Map.of("d", 0.0, "e", 3.0));
+
+        assert set.size() == 1;
+        assert set.getRandom().equals("e");
+
+        set.remove("e");
+
+        assert set.isEmpty();
+        assert set.getRandom() == null;
+    }
+}
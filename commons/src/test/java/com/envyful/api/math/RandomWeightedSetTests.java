@@ -47,4 +47,46 @@ public class RandomWeightedSetTests {
         assert randomWeightedSet.getTotalWeight() == 100;
     }
 
+    // Checks that adding an item twice adds to its weight rather than replacing it
+    @Test
+    void duplicateAddCheck() {
+        RandomWeightedSet<String> randomWeightedSet = new RandomWeightedSet<>("hello1", 1)
+                .add("hello2", 80)
+                .add("hello1", 19);
+
+        assert randomWeightedSet.get("hello1") == 20;
+        assert randomWeightedSet.getTotalWeight() == 100;
+    }
+
+    // Checks that changing the weights through the map methods and its views rebuilds the table
+    @Test
+    void changesResetSamplerCheck() {
+        RandomWeightedSet<String> randomWeightedSet = new RandomWeightedSet<>("hello1", 1)
+                .add("hello2", 80)
+                .add("hello3", 19);
+        assert randomWeightedSet.getTotalWeight() == 100;
+
+        randomWeightedSet.merge("hello1", 9.0, Double::sum);
+        assert randomWeightedSet.getTotalWeight() == 109;
+
+        randomWeightedSet.compute("hello1", (key, weight) -> null);
+        assert randomWeightedSet.getTotalWeight() == 99;
+
+        randomWeightedSet.putIfAbsent("hello1", 1.0);
+        assert randomWeightedSet.getTotalWeight() == 100;
+
+        randomWeightedSet.replaceAll((key, weight) -> weight * 2);
+        assert randomWeightedSet.getTotalWeight() == 200;
+
+        randomWeightedSet.keySet().remove("hello1");
+        assert randomWeightedSet.getTotalWeight() == 198;
+
+        randomWeightedSet.values().removeIf(weight -> weight == 38);
+        assert randomWeightedSet.getTotalWeight() == 160;
+
+        randomWeightedSet.entrySet().iterator().next().setValue(1.0);
+        assert randomWeightedSet.getTotalWeight() == 1;
+        assert randomWeightedSet.getRandom().equals("hello2");
+    }
+
 }
@@ -0,0 +1,112 @@
+package com.envyful.api.math;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+public class WeightedAliasTableTests {
+
+    // Checks that each item is drawn roughly in proportion to its weight
+    @Test
+    void distributionCheck() {
+        Map<String, Double> weights = new HashMap<>();
+        weights.put("a", 1.0);
+        weights.put("b", 2.0);
+        weights.put("c", 7.0);
+
+        WeightedAliasTable<String> table = WeightedAliasTable.of(weights);
+        Map<String, Integer> counts = new HashMap<>();
+
+        for (String item : table.sample(100_000)) {
+            counts.merge(item, 1, Integer::sum);
+        }
+
+        assert Math.abs(counts.get("a") - 10_000) < 1_000;
+        assert Math.abs(counts.get("b") - 20_000) < 1_500;
+        assert Math.abs(counts.get("c") - 70_000) < 2_000;
+    }
+
+    // Checks that items without a positive weight are never drawn
+    @Test
+    void ignoresNonPositiveWeights() {
+        Map<String, Double> weights = new HashMap<>();
+        weights.put("a", 0.0);
+        weights.put("b", -5.0);
+        weights.put("c", 3.0);
+
+        WeightedAliasTable<String> table = WeightedAliasTable.of(weights);
+
+        assert table.size() == 1;
+        assert table.getTotalWeight() == 3.0;
+
+        for (int i = 0; i < 1_000; i++) {
+            assert table.sample().equals("c");
+        }
+    }
+
+    // Checks that an empty table draws nothing
+    @Test
+    void emptyTableCheck() {
+        WeightedAliasTable<String> table = WeightedAliasTable.of(new HashMap<>());
+
+        assert table.isEmpty();
+        assert table.sample() == null;
+        assert table.sample(10).isEmpty();
+        assert table.sampleWithoutReplacement(10).isEmpty();
+    }
+
+    // Checks that sampling without replacement never returns the same item twice
+    @Test
+    void withoutReplacementCheck() {
+        RandomWeightedSet<Integer> set = new RandomWeightedSet<>();
+
+        for (int i = 0; i < 20; i++) {
+            set.add(i, i + 1);
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            var drawn = set.sampleWithoutReplacement(10);
+
+            assert drawn.size() == 10;
+            assert new HashSet<>(drawn).size() == 10;
+        }
+
+        assert set.sampleWithoutReplacement(50).size() == 20;
+    }
+
+    // Checks that the heaviest item is drawn first most of the time when sampling without replacement
+    @Test
+    void withoutReplacementWeightingCheck() {
+        RandomWeightedSet<String> set = new RandomWeightedSet<>("light", 1)
+                .add("heavy", 99);
+        int count = 0;
+
+        for (int i = 0; i < 10_000; i++) {
+            if (set.sampleWithoutReplacement(2).get(0).equals("heavy")) {
+                ++count;
+            }
+        }
+
+        assert count >= 9_700;
+    }
+
+    // Checks that changing the set rebuilds the sampler
+    @Test
+    void rebuildOnChangeCheck() {
+        RandomWeightedSet<String> set = new RandomWeightedSet<>("a", 1);
+
+        assert set.getRandom().equals("a");
+
+        set.remove("a");
+        set.add("b", 1);
+
+        assert set.getRandom().equals("b");
+        assert set.getTotalWeight() == 1;
+
+        set.add("b", 4);
+
+        assert set.getTotalWeight() == 5;
+    }
+}
@@ -0,0 +1,118 @@
+package com.envyful.api.player.attribute.manager;
+
+import com.envyful.api.player.Attribute;
+import com.envyful.api.player.attribute.adapter.AttributeAdapter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AttributeSaveQueueTests {
+
+    // Checks that saves of the same attribute are coalesced and sent through saveAll in one batch
+    @Test
+    void coalesceCheck() {
+        var adapter = new TestAdapter();
+        var queue = AttributeSaveQueue.builder().flushInterval(1, TimeUnit.HOURS).build();
+        var attribute = new TestAttribute(UUID.randomUUID());
+
+        var first = queue.enqueue(adapter, attribute);
+        var second = queue.enqueue(adapter, attribute);
+
+        assert first == second;
+        assert queue.getPendingCount() == 1;
+
+        queue.flush();
+        adapter.complete();
+
+        assert first.isDone();
+        assert adapter.batches.size() == 1;
+        assert adapter.singleSaves.get() == 0;
+    }
+
+    // Checks that a full queue stops taking saves, sending them straight to the adapter, until earlier saves complete
+    @Test
+    void capacityCheck() {
+        var adapter = new TestAdapter();
+        var queue = AttributeSaveQueue.builder()
+                .maxPending(2)
+                .maxWait(10, TimeUnit.MILLISECONDS)
+                .flushInterval(1, TimeUnit.HOURS)
+                .build();
+
+        queue.enqueue(adapter, new TestAttribute(UUID.randomUUID()));
+        queue.enqueue(adapter, new TestAttribute(UUID.randomUUID()));
+        queue.enqueue(adapter, new TestAttribute(UUID.randomUUID()));
+
+        assert adapter.batches.size() == 1;
+        assert adapter.singleSaves.get() == 1;
+        assert queue.getPendingCount() == 0;
+
+        adapter.complete();
+        queue.enqueue(adapter, new TestAttribute(UUID.randomUUID()));
+
+        assert adapter.singleSaves.get() == 1;
+        assert queue.getPendingCount() == 1;
+    }
+
+    private static class TestAttribute implements Attribute {
+
+        private final UUID id;
+
+        private TestAttribute(UUID id) {
+            this.id = id;
+        }
+
+        @Override
+        public UUID getUniqueId() {
+            return this.id;
+        }
+    }
+
+    private static class TestAdapter implements AttributeAdapter<TestAttribute> {
+
+        private final List<CompletableFuture<Void>> batches = new ArrayList<>();
+        private final AtomicInteger singleSaves = new AtomicInteger();
+
+        @Override
+        public CompletableFuture<Void> save(TestAttribute attribute) {
+            this.singleSaves.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletableFuture<Void> saveAll(List<TestAttribute> attributes) {
+            var future = new CompletableFuture<Void>();
+            this.batches.add(future);
+            return future;
+        }
+
+        private void complete() {
+            for (var batch : this.batches) {
+                batch.complete(null);
+            }
+        }
+
+        @Override
+        public void load(TestAttribute attribute) {
+        }
+
+        @Override
+        public CompletableFuture<Void> delete(TestAttribute attribute) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletableFuture<Void> deleteAll() {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void initialize() {
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.envyful.api.player.name;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+public class NameIndexTests {
+
+    // Checks that names are found ignoring case and a rename frees the old name
+    @Test
+    void renameCheck() {
+        var index = new NameIndex();
+        var uuid = UUID.randomUUID();
+
+        assert index.update(uuid, "Steve");
+        assert !index.update(uuid, "Steve");
+        assert uuid.equals(index.getUUID("sTeVe"));
+
+        assert index.update(uuid, "Alex");
+        assert index.getUUID("steve") == null;
+        assert "Alex".equals(index.getName(uuid));
+        assert index.size() == 1;
+    }
+
+    // Checks that a name taken by a different UUID moves to its most recent owner
+    @Test
+    void ownerChangeCheck() {
+        var index = new NameIndex();
+        var first = UUID.randomUUID();
+        var second = UUID.randomUUID();
+
+        index.update(first, "Steve");
+        index.update(second, "steve");
+
+        assert second.equals(index.getUUID("Steve"));
+        assert index.getName(first) == null;
+        assert index.size() == 1;
+    }
+
+    // Checks that prefix lookups are ordered, limited, and ignore case
+    @Test
+    void prefixCheck() {
+        var index = new NameIndex();
+
+        index.update(UUID.randomUUID(), "Steve");
+        index.update(UUID.randomUUID(), "stan");
+        index.update(UUID.randomUUID(), "Sam");
+        index.update(UUID.randomUUID(), "Alex");
+
+        assert index.getNamesStartingWith("ST", 10).equals(List.of("stan", "Steve"));
+        assert index.getNamesStartingWith("s", 2).equals(List.of("Sam", "stan"));
+        assert index.getNamesStartingWith("z", 10).isEmpty();
+    }
+}
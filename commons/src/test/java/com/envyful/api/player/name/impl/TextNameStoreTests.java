@@ -0,0 +1,62 @@
+package com.envyful.api.player.name.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.UUID;
+
+public class TextNameStoreTests {
+
+    // Checks that the old name-first format is read and compacted into the current format
+    @Test
+    void legacyFormatCheck() throws IOException {
+        var directory = Files.createTempDirectory("names");
+        var file = directory.resolve("names.txt");
+        var uuid = UUID.randomUUID();
+
+        Files.write(file, List.of(
+                "Steve@@##@@" + uuid.getMostSignificantBits() + "@@##@@" + uuid.getLeastSignificantBits()
+        ));
+
+        var store = new TextNameStore(file.toFile());
+
+        assert uuid.equals(store.getUUID("steve").join());
+        assert "Steve".equals(store.getName(uuid).join());
+        assert Files.readAllLines(file).equals(List.of(uuid + "@@##@@Steve"));
+        assert !Files.exists(directory.resolve("names.txt.tmp"));
+    }
+
+    // Checks that appended changes survive compaction and are read back when the file is reopened
+    @Test
+    void reopenAfterCompactionCheck() throws IOException {
+        var directory = Files.createTempDirectory("names");
+        var file = directory.resolve("names.txt");
+        var first = UUID.randomUUID();
+        var second = UUID.randomUUID();
+
+        var store = new TextNameStore(file.toFile());
+        store.getName(first).join();
+
+        store.updateStored(first, "Steve");
+        store.updateStored(second, "Alex");
+        store.save();
+
+        assert Files.readAllLines(file).size() == 2;
+
+        store.updateStored(first, "Steve2");
+        store.updateStored(first, "Steve3");
+        store.updateStored(second, "Alex2");
+        store.save();
+
+        assert Files.readAllLines(file).size() == 2;
+
+        var reopened = new TextNameStore(file.toFile());
+
+        assert "Steve3".equals(reopened.getName(first).join());
+        assert "Alex2".equals(reopened.getName(second).join());
+        assert reopened.getUUID("steve").join() == null;
+        assert reopened.getNamesStartingWith("steve", 10).join().equals(List.of("Steve3"));
+    }
+}
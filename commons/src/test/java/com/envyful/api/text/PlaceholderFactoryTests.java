@@ -0,0 +1,56 @@
+package com.envyful.api.text;
+
+import com.envyful.api.text.parse.SimpleTranslatablePlaceholder;
+import com.envyful.api.text.parse.SimplePlaceholder;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class PlaceholderFactoryTests {
+
+    private static final List<String> LINES = List.of(
+            "Hello %player%, you have %balance% coins",
+            "100% of %player%'s %missing% text",
+            "%%player%%",
+            "%removed% this line is gone",
+            "no placeholders here",
+            "50% off %item%"
+    );
+
+    // Checks rendering from compiled templates gives the same text as applying each placeholder in turn
+    @Test
+    void compiledMatchesChainedTest() {
+        Placeholder[] placeholders = {
+                Placeholder.simple("%player%", "Steve"),
+                SimpleTranslatablePlaceholder.of("balance", "100"),
+                Placeholder.empty("%removed%"),
+                Placeholder.require(() -> true).placeholder(Placeholder.simple("%item%", "Sword")).build()
+        };
+
+        var compiled = PlaceholderFactory.handlePlaceholders(LINES, placeholders);
+        var chained = PlaceholderFactory.handlePlaceholders(LINES, placeholders[0], placeholders[1], placeholders[2],
+                placeholders[3], (SimplePlaceholder) line -> line);
+
+        assert compiled.equals(chained) : compiled + " != " + chained;
+        assert compiled.get(0).equals("Hello Steve, you have 100 coins");
+        assert compiled.size() == LINES.size() - 1;
+    }
+
+    // Checks the first placeholder for a key wins, as it does when applied in turn
+    @Test
+    void firstBindingWinsTest() {
+        var removedFirst = PlaceholderFactory.handlePlaceholders("a %key% b", Placeholder.empty("%key%"), Placeholder.simple("%key%", "x"));
+        var valueFirst = PlaceholderFactory.handlePlaceholders("a %key% b", Placeholder.simple("%key%", "x"), Placeholder.empty("%key%"));
+
+        assert removedFirst.isEmpty();
+        assert valueFirst.equals(List.of("a x b"));
+    }
+
+    // Checks values containing a percent sign still allow later placeholders to replace inside them
+    @Test
+    void percentValueFallbackTest() {
+        var result = PlaceholderFactory.handlePlaceholders("%a%", Placeholder.simple("%a%", "%b%"), Placeholder.simple("%b%", "done"));
+
+        assert result.equals(List.of("done"));
+    }
+}
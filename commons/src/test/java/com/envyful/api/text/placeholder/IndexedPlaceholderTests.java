@@ -0,0 +1,48 @@
+package com.envyful.api.text.placeholder;
+
+import com.envyful.api.text.Placeholder;
+import com.envyful.api.text.PlaceholderFactory;
+import com.envyful.api.text.parse.SimplePlaceholder;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class IndexedPlaceholderTests {
+
+    private static final String[] TOKENS = {"%species%", "%level%", "%move_1%", "%move_2%"};
+
+    private static final List<String> LINES = List.of(
+            "&b%species% &7Lv. %level%",
+            "    &b%move_1%",
+            "    &b%move_2%",
+            "%unbound% stays"
+    );
+
+    // Checks binding the indexed values gives the same lines as the equivalent placeholders applied in turn
+    @Test
+    void matchesSimplePlaceholdersCheck() {
+        var indexed = IndexedPlaceholder.of(TOKENS, new String[] {"Pikachu", "50", "Thunderbolt", null});
+        var simple = Placeholder.composition(
+                Placeholder.simple("%species%", "Pikachu"),
+                Placeholder.simple("%level%", "50"),
+                Placeholder.simple("%move_1%", "Thunderbolt"),
+                Placeholder.empty("%move_2%")
+        );
+
+        var compiled = PlaceholderFactory.handlePlaceholders(LINES, indexed);
+        var chained = PlaceholderFactory.handlePlaceholders(LINES, indexed, (SimplePlaceholder) line -> line);
+
+        assert compiled.equals(PlaceholderFactory.handlePlaceholders(LINES, simple));
+        assert compiled.equals(chained) : compiled + " != " + chained;
+        assert compiled.size() == 3;
+    }
+
+    // Checks that a value containing a percent sign falls back to replacing the tokens in turn
+    @Test
+    void percentValueFallbackCheck() {
+        var indexed = IndexedPlaceholder.of(TOKENS, new String[] {"100%", "50", null, null});
+        var result = PlaceholderFactory.handlePlaceholders("%species% at %level%", indexed);
+
+        assert result.equals(List.of("100% at 50"));
+    }
+}
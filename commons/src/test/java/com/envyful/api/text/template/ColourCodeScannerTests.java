@@ -0,0 +1,97 @@
+package com.envyful.api.text.template;
+
+import com.envyful.api.text.Placeholder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+public class ColourCodeScannerTests {
+
+    private static final Pattern COLOUR_PATTERN = Pattern.compile("&(#\\w{6}|[\\da-zA-Z])");
+
+    private static final List<String> LINES = List.of(
+            "&aHello %player%, you have &#ff00aa%balance% &lcoins",
+            "&%colour%Coloured by a placeholder&",
+            "& not a code &#12 or &#zzzzzz or &_",
+            "%player%%balance%",
+            "plain text"
+    );
+
+    // Checks the scanner splits text at the same codes as the colour pattern
+    @Test
+    void matchesPatternCheck() {
+        for (var line : LINES) {
+            assert scan(line).equals(split(line)) : scan(line) + " != " + split(line);
+        }
+    }
+
+    // Checks scanning resolved text gives the same parts as scanning the rendered string
+    @Test
+    void resolvedMatchesRenderedCheck() {
+        var bindings = PlaceholderBindings.of(new Placeholder[] {
+                Placeholder.simple("%player%", "&cSteve"),
+                Placeholder.simple("%balance%", "100"),
+                Placeholder.simple("%colour%", "b")
+        }, List.of());
+
+        for (var line : LINES) {
+            var resolved = PlaceholderTemplate.resolve(line, bindings);
+            var rendered = PlaceholderTemplate.render(line, bindings);
+
+            assert resolved.toString().equals(rendered);
+            assert scan(resolved).equals(split(rendered)) : scan(resolved) + " != " + split(rendered);
+        }
+    }
+
+    // Checks a removed line resolves to null and unchanged text isn't marked as replaced
+    @Test
+    void resolveRemovedCheck() {
+        var bindings = PlaceholderBindings.of(new Placeholder[] {
+                Placeholder.empty("%removed%")
+        }, List.of());
+
+        assert PlaceholderTemplate.resolve("%removed% line", bindings) == null;
+        assert !PlaceholderTemplate.resolve("100% of %missing%", bindings).isReplaced();
+    }
+
+    private static List<String> scan(CharSequence text) {
+        List<String> parts = new ArrayList<>();
+
+        ColourCodeScanner.scan(text, new ColourCodeScanner.Visitor() {
+            @Override
+            public void text(String text) {
+                parts.add("text:" + text);
+            }
+
+            @Override
+            public void code(String code) {
+                parts.add("code:" + code);
+            }
+        });
+
+        return parts;
+    }
+
+    private static List<String> split(String text) {
+        List<String> parts = new ArrayList<>();
+        var matcher = COLOUR_PATTERN.matcher(text);
+        var last = 0;
+
+        while (matcher.find()) {
+            if (matcher.start() > last) {
+                parts.add("text:" + text.substring(last, matcher.start()));
+            }
+
+            parts.add("code:" + matcher.group(1));
+            last = matcher.end();
+        }
+
+        if (last < text.length()) {
+            parts.add("text:" + text.substring(last));
+        }
+
+        return parts;
+    }
+}
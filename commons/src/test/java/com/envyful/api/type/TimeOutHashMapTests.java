@@ -0,0 +1,38 @@
+package com.envyful.api.type;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+public class TimeOutHashMapTests {
+
+    // Checks that a timeout of zero keeps nothing, as every entry has already timed out
+    @Test
+    void zeroDurationCheck() {
+        Map<Integer, String> map = new TimeOutHashMap<>(0);
+
+        map.put(1, "one");
+        assert map.get(1) == null;
+        assert map.computeIfAbsent(1, key -> "loaded").equals("loaded");
+        assert map.get(1) == null;
+        assert map.isEmpty();
+    }
+
+    // Checks that putting null removes the key and the atomic defaults act on the cached value
+    @Test
+    void atomicOperationsCheck() {
+        Map<Integer, Integer> map = new TimeOutHashMap<>(60_000);
+
+        assert map.putIfAbsent(1, 1) == null;
+        assert map.putIfAbsent(1, 2) == 1;
+        assert map.merge(1, 5, Integer::sum) == 6;
+        assert map.replace(1, 6, 7);
+        assert !map.replace(1, 6, 8);
+        assert map.replace(2, 1) == null;
+        assert map.computeIfPresent(1, (key, old) -> old * 2) == 14;
+        assert !map.remove(1, 7);
+
+        map.put(1, null);
+        assert !map.containsKey(1);
+    }
+}
@@ -0,0 +1,126 @@
+package com.envyful.api.type.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ExpiringCacheTests {
+
+    // Checks that entries expire once the ticker passes the write expiry and are swept when not read
+    @Test
+    void expiryCheck() {
+        AtomicLong time = new AtomicLong();
+        ExpiringCache<Integer, String> cache = ExpiringCache.<Integer, String>builder()
+                .expireAfterWrite(10, TimeUnit.NANOSECONDS)
+                .ticker(time::get)
+                .build();
+
+        cache.put(1, "one");
+        cache.put(2, "two");
+        assert "one".equals(cache.getIfPresent(1));
+
+        time.set(10);
+        assert cache.getIfPresent(1) == null;
+        assert cache.estimatedSize() == 1;
+
+        cache.cleanUp();
+        assert cache.estimatedSize() == 0;
+        assert cache.getStats().getExpirationCount() == 2;
+    }
+
+    // Checks that a bounded LRU cache removes the least recently read key
+    @Test
+    void lruEvictionCheck() {
+        ExpiringCache<Integer, String> cache = ExpiringCache.<Integer, String>builder()
+                .maximumSize(2)
+                .build();
+
+        cache.put(1, "one");
+        cache.put(2, "two");
+        cache.getIfPresent(1);
+        cache.put(3, "three");
+
+        assert cache.estimatedSize() == 2;
+        assert cache.getIfPresent(2) == null;
+        assert cache.getIfPresent(1) != null;
+        assert cache.getStats().getEvictionCount() == 1;
+    }
+
+    // Checks that the frequency based policy keeps a popular key over a one-off key
+    @Test
+    void tinyLfuAdmissionCheck() {
+        ExpiringCache<Integer, String> cache = ExpiringCache.<Integer, String>builder()
+                .maximumSize(2)
+                .evictionPolicy(EvictionPolicy.tinyLfu(2))
+                .build();
+
+        cache.put(1, "one");
+        cache.put(2, "two");
+
+        for (int i = 0; i < 5; i++) {
+            cache.getIfPresent(1);
+            cache.getIfPresent(2);
+        }
+
+        cache.put(3, "three");
+
+        assert cache.getIfPresent(3) == null;
+        assert cache.getIfPresent(1) != null && cache.getIfPresent(2) != null;
+    }
+
+    // Checks that concurrent loads of the same key only run the loader once
+    @Test
+    void singleFlightCheck() throws InterruptedException {
+        ExpiringCache<Integer, String> cache = ExpiringCache.<Integer, String>builder().build();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ignored) {}
+
+                cache.get(1, key -> {
+                    loads.incrementAndGet();
+
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException ignored) {}
+
+                    return "one";
+                });
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assert executor.awaitTermination(5, TimeUnit.SECONDS);
+        assert loads.get() == 1;
+        assert cache.getStats().getLoadCount() == 1;
+    }
+
+    // Checks that compute treats an expired value as absent and removes the key on a null result
+    @Test
+    void computeCheck() {
+        AtomicLong time = new AtomicLong();
+        ExpiringCache<Integer, Integer> cache = ExpiringCache.<Integer, Integer>builder()
+                .expireAfterWrite(10, TimeUnit.NANOSECONDS)
+                .ticker(time::get)
+                .build();
+
+        assert cache.compute(1, (key, old) -> old == null ? 1 : old + 1) == 1;
+        assert cache.compute(1, (key, old) -> old == null ? 1 : old + 1) == 2;
+
+        time.set(10);
+        assert cache.compute(1, (key, old) -> old == null ? 1 : old + 1) == 1;
+        assert cache.compute(1, (key, old) -> null) == null;
+        assert cache.getIfPresent(1) == null;
+    }
+}
@@ -2,6 +2,7 @@ package com.envyful.api.forge.chat;
 
 import com.envyful.api.platform.text.TextFormatter;
 import com.envyful.api.text.Placeholder;
+import com.envyful.api.type.cache.CacheStats;
 import net.minecraft.util.text.ITextComponent;
 
 import java.util.List;
@@ -32,6 +33,11 @@ public class ITextComponentTextFormatter implements TextFormatter<ITextComponent
         return UtilChatColour.stripColor(text);
     }
 
+    @Override
+    public CacheStats getCacheStats() {
+        return UtilChatColour.getCacheStats();
+    }
+
     public static ITextComponentTextFormatter getInstance() {
         return INSTANCE;
     }
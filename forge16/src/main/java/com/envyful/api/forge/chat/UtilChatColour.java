@@ -2,6 +2,9 @@ package com.envyful.api.forge.chat;
 
 import com.envyful.api.text.Placeholder;
 import com.envyful.api.text.PlaceholderFactory;
+import com.envyful.api.type.cache.CacheStats;
+import com.envyful.api.type.cache.EvictionPolicy;
+import com.envyful.api.type.cache.ExpiringCache;
 import net.minecraft.util.text.*;
 
 import javax.annotation.Nullable;
@@ -23,6 +26,13 @@ public class UtilChatColour {
     public static final Pattern COLOUR_PATTERN = Pattern.compile("&(#\\w{6}|[\\da-zA-Z])");
     public static final Pattern STRIP_PATTERN = Pattern.compile("(?i)&([0-9A-FK-ORX]|#([A-F0-9]{6}|[A-F0-9]{3}))");
 
+    private static final int CACHE_SIZE = 4096;
+
+    private static final ExpiringCache<String, ITextComponent> CACHE = ExpiringCache.<String, ITextComponent>builder()
+            .maximumSize(CACHE_SIZE)
+            .evictionPolicy(EvictionPolicy.tinyLfu(CACHE_SIZE))
+            .build();
+
     public static List<ITextComponent> colour(Collection<String> text, Placeholder... placeholders) {
         return PlaceholderFactory.handlePlaceholders(List.copyOf(text), UtilChatColour::colour, placeholders);
     }
@@ -30,17 +40,70 @@ public class UtilChatColour {
     /**
      *
      * Parses the string to a {@link ITextComponent} with the correctly formatted colour codes and hex codes
+     * <br>
+     * Each distinct line without placeholders is only parsed once and then kept in a bounded cache. Callers are
+     * given a deep copy of the cached component, siblings included, so appending to it or restyling it won't
+     * change the cached version
      *
      * @param text The unformatted text
      * @return The newly formatted text
      */
     public static ITextComponent colour(String text, Placeholder... placeholders) {
-        if (text.contains("{")) {
+        if (placeholders.length != 0 || !PlaceholderFactory.getGlobalPlaceholders().isEmpty()) {
+            // Placeholders are replaced in each coloured segment so the result depends on them and can't be cached
+            return compile(text, placeholders);
+        }
+
+        return deepCopy(CACHE.get(text, UtilChatColour::compile));
+    }
+
+    private static IFormattableTextComponent deepCopy(ITextComponent component) {
+        var copy = component.plainCopy().setStyle(component.getStyle());
+
+        for (var sibling : component.getSiblings()) {
+            copy.append(deepCopy(sibling));
+        }
+
+        return copy;
+    }
+
+    /**
+     *
+     * Gets the usage statistics of the parsed text cache
+     *
+     * @return The stats
+     */
+    public static CacheStats getCacheStats() {
+        return CACHE.getStats();
+    }
+
+    private static boolean looksLikeJson(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            var c = text.charAt(i);
+
+            if (!Character.isWhitespace(c)) {
+                return c == '{' || c == '[';
+            }
+        }
+
+        return false;
+    }
+
+    private static ITextComponent compile(String text, Placeholder... placeholders) {
+        if (looksLikeJson(text)) {
             try {
-                return ITextComponent.Serializer.fromJson(text);
+                var component = ITextComponent.Serializer.fromJson(text);
+
+                if (component != null) {
+                    return component;
+                }
             } catch (Exception ignored) {}
         }
 
+        return parseLegacy(text, placeholders);
+    }
+
+    private static ITextComponent parseLegacy(String text, Placeholder... placeholders) {
         var matcher = COLOUR_PATTERN.matcher(text);
         var textComponent = new StringTextComponent("");
 
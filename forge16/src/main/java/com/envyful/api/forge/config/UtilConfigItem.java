@@ -9,24 +9,34 @@ import com.envyful.api.forge.player.ForgeEnvyPlayer;
 import com.envyful.api.platform.PlatformProxy;
 import com.envyful.api.text.Placeholder;
 import com.envyful.api.text.PlaceholderFactory;
+import com.envyful.api.text.template.PlaceholderBindings;
 import com.envyful.api.type.Pair;
 import com.envyful.api.type.UtilParse;
+import com.envyful.api.type.cache.ExpiringCache;
 import net.minecraft.enchantment.Enchantment;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
 import net.minecraft.nbt.*;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.ResourceLocationException;
 import net.minecraft.util.registry.Registry;
 import net.minecraft.util.text.ITextComponent;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 public class UtilConfigItem {
 
+    private static final ExpiringCache<ConfigItem, ItemPrototype> PROTOTYPES = ExpiringCache.<ConfigItem, ItemPrototype>builder()
+            .maximumSize(2048)
+            .expireAfterAccess(30, TimeUnit.MINUTES)
+            .build();
+
     private UtilConfigItem() {
         throw new UnsupportedOperationException("Static utility class");
     }
@@ -68,11 +78,50 @@ public class UtilConfigItem {
         return fromConfigItem(configItem, List.of(placeholders));
     }
 
+    /**
+     *
+     * Builds the item stack for the config item
+     * <br>
+     * Everything without a placeholder is built once into a prototype item stack that's cached against the
+     * config item. Each call then copies the prototype and only replaces the placeholders in the name, lore,
+     * and NBT that contain them. Reloading a config creates new config items so their prototypes are rebuilt.
+     * Items whose type, flags, or enchants contain placeholders, or that are given placeholders which can't be
+     * expressed as {@code %key%} bindings, are built in full every time
+     *
+     * @param configItem The config item
+     * @param placeholders The placeholders
+     * @return The item stack, or null if the item is disabled
+     */
     public static ItemStack fromConfigItem(ConfigItem configItem, List<Placeholder> placeholders) {
         if (!configItem.isEnabled()) {
             return null;
         }
 
+        var bindings = PlaceholderBindings.of(placeholders.toArray(new Placeholder[0]), PlaceholderFactory.getGlobalPlaceholders());
+
+        if (bindings == null) {
+            return build(configItem, placeholders);
+        }
+
+        var prototype = PROTOTYPES.get(configItem, UtilConfigItem::compile);
+
+        if (prototype.itemStack == null) {
+            return build(configItem, placeholders);
+        }
+
+        return prototype.render(configItem, placeholders);
+    }
+
+    /**
+     *
+     * Removes all the cached item prototypes
+     *
+     */
+    public static void clearCache() {
+        PROTOTYPES.clear();
+    }
+
+    private static ItemStack build(ConfigItem configItem, List<Placeholder> placeholders) {
         var name = configItem.getName();
         var type = PlaceholderFactory.handlePlaceholders(configItem.getType(), placeholders);
 
@@ -122,6 +171,81 @@ public class UtilConfigItem {
         return itemBuilder.build();
     }
 
+    private static ItemPrototype compile(ConfigItem configItem) {
+        if (hasPlaceholders(configItem.getType()) || configItem.getFlags().stream().anyMatch(UtilConfigItem::hasPlaceholders)) {
+            return ItemPrototype.NONE;
+        }
+
+        for (var enchant : configItem.getEnchants().values()) {
+            if (hasPlaceholders(enchant.getEnchant()) || hasPlaceholders(enchant.getLevel())) {
+                return ItemPrototype.NONE;
+            }
+        }
+
+        var item = fromNameOrId(configItem.getType());
+
+        if (item == null || item == Items.AIR) {
+            return ItemPrototype.NONE;
+        }
+
+        var dynamicName = hasPlaceholders(configItem.getName());
+        var dynamicLore = configItem.getLore().stream().anyMatch(UtilConfigItem::hasPlaceholders);
+        List<Map.Entry<String, ConfigItem.NBTValue>> dynamicNbt = new ArrayList<>();
+
+        var staticItem = ConfigItem.builder()
+                .type(configItem.getType())
+                .amount(1)
+                .name(dynamicName ? "" : configItem.getName())
+                .setLore(dynamicLore ? new ArrayList<>() : configItem.getLore())
+                .flags(configItem.getFlags().toArray(new String[0]))
+                .enchants(configItem.getEnchants().values().toArray(new ConfigItem.EnchantData[0]));
+
+        for (var entry : configItem.getNbt().entrySet()) {
+            if (hasPlaceholders(entry.getValue())) {
+                dynamicNbt.add(entry);
+            } else {
+                staticItem.nbt(entry.getKey(), entry.getValue());
+            }
+        }
+
+        var itemStack = build(staticItem.build(), Collections.emptyList());
+
+        if (itemStack == null || itemStack.isEmpty()) {
+            return ItemPrototype.NONE;
+        }
+
+        for (var entry : dynamicNbt) {
+            // The builder writes its own tags after the NBT, so a placeholder tag it would have overwritten can't be patched in later
+            if (itemStack.getTag() != null && itemStack.getTag().contains(entry.getKey())) {
+                return ItemPrototype.NONE;
+            }
+        }
+
+        return new ItemPrototype(itemStack, dynamicName, dynamicLore, dynamicNbt);
+    }
+
+    private static boolean hasPlaceholders(String text) {
+        return text != null && text.indexOf('%') != -1;
+    }
+
+    private static boolean hasPlaceholders(ConfigItem.NBTValue value) {
+        if (hasPlaceholders(value.getData())) {
+            return true;
+        }
+
+        if (value.getSubData() == null) {
+            return false;
+        }
+
+        for (var subValue : value.getSubData().values()) {
+            if (hasPlaceholders(subValue)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     public static Pair<String, INBT> parseNBT(Map.Entry<String, ConfigItem.NBTValue> nbtEntry, List<Placeholder> placeholders) {
         if (nbtEntry.getValue().getType().equalsIgnoreCase("nbt")) {
             CompoundNBT compound = new CompoundNBT();
@@ -214,4 +338,48 @@ public class UtilConfigItem {
         }
     }
 
+    private static final class ItemPrototype {
+
+        private static final ItemPrototype NONE = new ItemPrototype(null, false, false, Collections.emptyList());
+
+        private final ItemStack itemStack;
+        private final boolean dynamicName;
+        private final boolean dynamicLore;
+        private final List<Map.Entry<String, ConfigItem.NBTValue>> dynamicNbt;
+
+        private ItemPrototype(ItemStack itemStack, boolean dynamicName, boolean dynamicLore,
+                              List<Map.Entry<String, ConfigItem.NBTValue>> dynamicNbt) {
+            this.itemStack = itemStack;
+            this.dynamicName = dynamicName;
+            this.dynamicLore = dynamicLore;
+            this.dynamicNbt = dynamicNbt;
+        }
+
+        private ItemStack render(ConfigItem configItem, List<Placeholder> placeholders) {
+            var itemStack = this.itemStack.copy();
+            itemStack.setCount(configItem.getAmount(placeholders));
+
+            for (var entry : this.dynamicNbt) {
+                var parsed = parseNBT(entry, placeholders);
+
+                if (parsed != null) {
+                    itemStack.getOrCreateTag().put(parsed.getX(), parsed.getY());
+                }
+            }
+
+            if (this.dynamicName) {
+                var name = PlaceholderFactory.handlePlaceholders(Collections.singletonList(configItem.getName()), PlatformProxy::<ITextComponent>parse, placeholders);
+
+                if (!name.isEmpty()) {
+                    ItemBuilder.applyName(itemStack, name.get(0));
+                }
+            }
+
+            if (this.dynamicLore) {
+                ItemBuilder.applyLore(itemStack, PlatformProxy.parse(configItem.getLore(), placeholders.toArray(new Placeholder[0])));
+            }
+
+            return itemStack;
+        }
+    }
 }
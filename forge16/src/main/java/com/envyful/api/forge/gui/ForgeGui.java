@@ -1,9 +1,12 @@
 package com.envyful.api.forge.gui;
 
+import com.envyful.api.concurrency.UtilConcurrency;
+import com.envyful.api.concurrency.UtilLogger;
 import com.envyful.api.forge.concurrency.UtilForgeConcurrency;
 import com.envyful.api.forge.gui.close.ForgeCloseConsumer;
 import com.envyful.api.forge.gui.item.EmptySlot;
 import com.envyful.api.forge.gui.pane.ForgeSimplePane;
+import com.envyful.api.forge.gui.ticker.ForgeGuiTickHandler;
 import com.envyful.api.forge.player.ForgeEnvyPlayer;
 import com.envyful.api.gui.Gui;
 import com.envyful.api.gui.item.Displayable;
@@ -25,10 +28,12 @@ import net.minecraft.util.NonNullList;
 import net.minecraft.util.text.ITextComponent;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  *
@@ -45,6 +50,7 @@ public class ForgeGui implements Gui {
     private final ContainerType<?> containerType;
 
     private final List<ForgeGuiContainer> containers = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean tickScheduled = new AtomicBoolean();
 
     ForgeGui(ITextComponent title, int height,
              ForgeCloseConsumer closeConsumer, Pane... panes) {
@@ -61,6 +67,7 @@ public class ForgeGui implements Gui {
             }
 
             this.panes[i] = (ForgeSimplePane) pane;
+            this.panes[i].getInventoryBasic().addListener(p_76316_1_ -> ForgeGuiTracker.enqueueRefresh(this));
             ++i;
         }
 
@@ -94,6 +101,7 @@ public class ForgeGui implements Gui {
                 parent.containerMenu = new ForgeGuiContainer(this, parent);
                 ((ForgeGuiContainer) parent.containerMenu).refreshPlayerContents();
                 this.containers.add(((ForgeGuiContainer) parent.containerMenu));
+                this.scheduleTick();
                 future.complete(null);
             });
             return future;
@@ -110,6 +118,7 @@ public class ForgeGui implements Gui {
                 parent.connection.send(new SOpenWindowPacket(parent.containerCounter, this.getContainerType(), title));
                 container.refreshPlayerContents();
                 this.containers.add(container);
+                this.scheduleTick();
                 ForgeGuiTracker.addGui(player, this);
                 future.complete(null);
             });
@@ -117,20 +126,168 @@ public class ForgeGui implements Gui {
         return future;
     }
 
-    public void update() {
-        for (ForgeGuiContainer value : this.containers) {
-            boolean updated = false;
-            for (ForgeSimplePane pane : value.gui.panes) {
-                if (pane.getTickHandler() != null) {
-                    updated = true;
+    /**
+     *
+     * Schedules the next tick of the GUI for when its earliest tick handler is due. Nothing is scheduled if the
+     * GUI has no tick handlers, no viewers, or a tick is already scheduled
+     *
+     */
+    void scheduleTick() {
+        if (this.containers.isEmpty() || !this.tickScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        int delay = this.getTicksUntilDue();
+
+        if (delay == -1) {
+            this.tickScheduled.set(false);
+            return;
+        }
+
+        UtilForgeConcurrency.runLater(() -> this.tick(delay), delay);
+    }
+
+    private int getTicksUntilDue() {
+        int delay = -1;
+
+        for (ForgeSimplePane pane : this.panes) {
+            if (pane == null || pane.getTickHandler() == null) {
+                continue;
+            }
+
+            int ticks = pane.getTickHandler() instanceof ForgeGuiTickHandler ?
+                    ((ForgeGuiTickHandler) pane.getTickHandler()).getTicksUntilDue() : 1;
+
+            if (delay == -1 || ticks < delay) {
+                delay = ticks;
+            }
+        }
+
+        return delay;
+    }
+
+    private void tick(int elapsed) {
+        if (this.containers.isEmpty()) {
+            this.tickScheduled.set(false);
+            return;
+        }
+
+        List<CompletableFuture<PaneChanges>> precompute = new ArrayList<>();
+        boolean updated = false;
+
+        for (ForgeSimplePane pane : this.panes) {
+            if (pane == null || pane.getTickHandler() == null) {
+                continue;
+            }
+
+            try {
+                if (!(pane.getTickHandler() instanceof ForgeGuiTickHandler)) {
                     pane.getTickHandler().tick(pane);
+                    updated = true;
+                    continue;
+                }
+
+                ForgeGuiTickHandler tickHandler = (ForgeGuiTickHandler) pane.getTickHandler();
+
+                if (!tickHandler.advance(elapsed)) {
+                    continue;
+                }
+
+                updated = true;
+
+                if (tickHandler.isAsync()) {
+                    precompute.add(CompletableFuture.supplyAsync(() -> this.record(pane, tickHandler), UtilConcurrency.getCPUPool()));
+                } else {
+                    tickHandler.run(pane);
                 }
+            } catch (Exception e) {
+                UtilLogger.getLogger().error("Error when ticking GUI", e);
             }
+        }
+
+        if (precompute.isEmpty()) {
+            this.completeTick(updated, List.of());
+            return;
+        }
+
+        CompletableFuture.allOf(precompute.toArray(new CompletableFuture[0])).thenRun(() -> {
+            List<PaneChanges> changes = new ArrayList<>(precompute.size());
 
-            if (updated) {
-                value.update(this.panes, false);
+            for (CompletableFuture<PaneChanges> future : precompute) {
+                changes.add(future.join());
             }
+
+            this.completeTick(true, changes);
+        });
+    }
+
+    private PaneChanges record(ForgeSimplePane pane, ForgeGuiTickHandler tickHandler) {
+        PaneChanges changes = new PaneChanges(pane);
+
+        try {
+            tickHandler.run(changes);
+        } catch (Exception e) {
+            UtilLogger.getLogger().error("Error when ticking GUI", e);
         }
+
+        return changes;
+    }
+
+    private void completeTick(boolean updated, List<PaneChanges> changes) {
+        if (updated) {
+            ForgeGuiTracker.enqueueRefresh(this, changes);
+        }
+
+        this.tickScheduled.set(false);
+        this.scheduleTick();
+    }
+
+    /**
+     *
+     * Updates the slots of every player viewing the GUI from the panes
+     *
+     * @deprecated Use {@link #refresh()} instead
+     */
+    @Deprecated
+    public void update() {
+        this.refresh();
+    }
+
+    /**
+     *
+     * Renders the panes once and sends the changed slots to every player viewing the GUI
+     *
+     */
+    public void refresh() {
+        if (this.containers.isEmpty()) {
+            return;
+        }
+
+        SlotSnapshot snapshot = this.render();
+
+        for (ForgeGuiContainer container : this.containers) {
+            container.update(snapshot, false);
+        }
+    }
+
+    private SlotSnapshot render() {
+        SlotSnapshot snapshot = new SlotSnapshot(9 * this.height);
+
+        for (ForgeSimplePane pane : this.panes) {
+            if (pane == null) {
+                continue;
+            }
+
+            for (int y = 0; y < pane.getItems().length; y++) {
+                ForgeSimplePane.SimpleDisplayableSlot[] row = pane.getItems()[y];
+
+                for (int x = 0; x < row.length; x++) {
+                    snapshot.set(pane.updateIndex((9 * y) + x), row[x]);
+                }
+            }
+        }
+
+        return snapshot;
     }
 
     public ContainerType<?> getContainerType() {
@@ -147,9 +304,9 @@ public class ForgeGui implements Gui {
         private ForgeGui gui;
         private final ServerPlayerEntity player;
         private final List<EmptySlot> emptySlots = new ArrayList<>();
+        private final NonNullList<ItemStack> lastSent = NonNullList.create();
 
         private boolean closed = false;
-        private boolean init = false;
         private boolean updating = false;
 
         public ForgeGuiContainer(ForgeGui gui, ServerPlayerEntity player) {
@@ -158,7 +315,7 @@ public class ForgeGui implements Gui {
             this.gui = gui;
             this.player = player;
 
-            this.update(this.gui.panes, false);
+            this.create(gui.render());
         }
 
         public void setGui(ForgeGui gui) {
@@ -187,66 +344,84 @@ public class ForgeGui implements Gui {
             return nonnulllist;
         }
 
-        public void update(ForgeSimplePane[] panes, boolean force) {
+        private void create(SlotSnapshot snapshot) {
+            for (int i = 0; i < (9 * this.gui.height); i++) {
+                var emptySlot = new EmptySlot(this.gui.parentPane, i);
+
+                this.addSlot(emptySlot);
+                this.emptySlots.add(emptySlot);
+            }
+
+            this.setSlots(snapshot);
+        }
+
+        /**
+         *
+         * Points the GUI slots at the rendered snapshot. Unless forced, or a click has queued a full refresh, only
+         * the slots whose item differs from the item last sent to the player are sent
+         *
+         * @param snapshot The rendered GUI slots
+         * @param force If the full container contents should be resent
+         */
+        public void update(SlotSnapshot snapshot, boolean force) {
             if (this.updating) {
                 return;
             }
 
             this.updating = true;
 
-            this.slots.clear();
-            boolean createEmptySlots = this.emptySlots.isEmpty();
+            this.setSlots(snapshot);
 
-            if (!createEmptySlots) {
-                this.slots.addAll(this.emptySlots);
+            if (force || ForgeGuiTracker.requiresUpdate(this.player)) {
+                this.refreshPlayerContents();
+            } else {
+                this.sendChangedSlots(snapshot);
             }
 
-            for (int i = 0; i < (9 * this.gui.height); i++) {
-                if (createEmptySlots) {
-                    var emptySlot = new EmptySlot(this.gui.parentPane, i);
+            this.updating = false;
+        }
 
-                    this.addSlot(emptySlot);
-                    this.emptySlots.add(emptySlot);
-                }
+        private void setSlots(SlotSnapshot snapshot) {
+            for (int i = 0; i < this.emptySlots.size(); i++) {
+                ForgeSimplePane.SimpleDisplayableSlot slot = snapshot.getSlot(i);
+
+                this.slots.set(i, slot == null ? this.emptySlots.get(i) : slot);
             }
+        }
 
-            for (var pane : panes) {
-                if (pane == null) {
-                    continue;
-                }
+        private void sendChangedSlots(SlotSnapshot snapshot) {
+            for (int i = 0; i < this.slots.size(); i++) {
+                ItemStack itemStack = i < snapshot.size() ? snapshot.getItem(i) : this.slots.get(i).getItem();
+                ItemStack previous = this.lastSent.get(i);
 
-                if (!this.init) {
-                    pane.getInventoryBasic().addListener(p_76316_1_ -> {
-                        this.update(this.gui.panes, true);
-                    });
+                if (previous == itemStack || ItemStack.matches(previous, itemStack)) {
+                    continue;
                 }
 
-                for (int y = 0; y < pane.getItems().length; y++) {
-                    ForgeSimplePane.SimpleDisplayableSlot[] row = pane.getItems()[y];
-
-                    for (int x = 0; x < row.length; x++) {
-                        ForgeSimplePane.SimpleDisplayableSlot item = row[x];
-
-                        int index = pane.updateIndex((9 * y) + x);
-
-                        this.slots.set(index, item);
-                    }
-                }
+                this.lastSent.set(i, this.toSent(i, itemStack));
+                this.player.connection.send(new SSetSlotPacket(this.containerId, i, itemStack));
             }
+        }
 
-            this.init = true;
+        private void markAllSent() {
+            for (int i = 0; i < this.slots.size(); i++) {
+                this.lastSent.set(i, this.toSent(i, this.slots.get(i).getItem()));
+            }
+        }
 
-            if (force || ForgeGuiTracker.requiresUpdate(this.player)) {
-                this.refreshPlayerContents();
+        private ItemStack toSent(int index, ItemStack itemStack) {
+            if (index < this.emptySlots.size()) {
+                return itemStack;
             }
 
-            this.updating = false;
+            return itemStack.copy();
         }
 
         @Override
         protected Slot addSlot(Slot slotIn) {
             slotIn.index = this.slots.size();
             this.slots.add(slotIn);
+            this.lastSent.add(ItemStack.EMPTY);
             return slotIn;
         }
 
@@ -345,6 +520,8 @@ public class ForgeGui implements Gui {
             if (this.gui.height <= 6) {
                 this.player.refreshContainer(this.player.inventoryMenu);
             }
+
+            this.markAllSent();
         }
 
         private void clearPlayerCursor() {
@@ -386,4 +563,48 @@ public class ForgeGui implements Gui {
             ForgeGuiTracker.removePlayer(player);
         }
     }
+
+    /**
+     *
+     * The GUI slots rendered from the panes, shared by every player viewing the GUI so the panes are only rendered
+     * once per update regardless of the number of viewers. The rendered items must not be modified
+     *
+     */
+    private static final class SlotSnapshot {
+
+        private final ForgeSimplePane.SimpleDisplayableSlot[] slots;
+        private final ItemStack[] items;
+
+        private SlotSnapshot(int size) {
+            this.slots = new ForgeSimplePane.SimpleDisplayableSlot[size];
+            this.items = new ItemStack[size];
+
+            Arrays.fill(this.items, ItemStack.EMPTY);
+        }
+
+        private int size() {
+            return this.slots.length;
+        }
+
+        private void set(int index, ForgeSimplePane.SimpleDisplayableSlot slot) {
+            if (index < 0 || index >= this.slots.length) {
+                return;
+            }
+
+            this.slots[index] = slot;
+            this.items[index] = slot.getItem();
+        }
+
+        private ForgeSimplePane.SimpleDisplayableSlot getSlot(int index) {
+            if (index >= this.slots.length) {
+                return null;
+            }
+
+            return this.slots[index];
+        }
+
+        private ItemStack getItem(int index) {
+            return this.items[index];
+        }
+    }
 }
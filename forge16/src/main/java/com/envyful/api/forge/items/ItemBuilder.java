@@ -289,32 +289,8 @@ public class ItemBuilder implements Cloneable {
             itemStack.setTag(compound);
         }
 
-        if (this.name != null && !this.name.getString().isEmpty()) {
-            CompoundNBT display = itemStack.getOrCreateTagElement("display");
-            ITextComponent name = this.name.copy();
-            if (name instanceof IFormattableTextComponent) {
-                name = ((IFormattableTextComponent) name).setStyle(name.getStyle().withItalic(false));
-            }
-
-            display.put("Name", StringNBT.valueOf(ITextComponent.Serializer.toJson(name)));
-            itemStack.addTagElement("display", display);
-        }
-
-        if (this.lore != null && !this.lore.isEmpty()) {
-            CompoundNBT display = itemStack.getOrCreateTagElement("display");
-            ListNBT lore = new ListNBT();
-
-            this.lore.forEach(s -> {
-                if (s instanceof IFormattableTextComponent) {
-                    s = ((IFormattableTextComponent) s).setStyle(s.getStyle().withItalic(false));
-                }
-
-                lore.add(StringNBT.valueOf(ITextComponent.Serializer.toJson(s)));
-            });
-
-            display.put("Lore", lore);
-            itemStack.addTagElement("display", display);
-        }
+        applyName(itemStack, this.name);
+        applyLore(itemStack, this.lore);
 
         if (this.unbreakable) {
             itemStack.getTag().putInt("Unbreakable", 1);
@@ -332,12 +308,62 @@ public class ItemBuilder implements Cloneable {
                 hideFlags += itemFlag.getNbtId();
             }
 
-            itemStack.getTag().putInt("HideFlags", hideFlags);
+            itemStack.getOrCreateTag().putInt("HideFlags", hideFlags);
         }
 
         return itemStack;
     }
 
+    /**
+     *
+     * Sets the display name of the item stack in the same way as {@link #build()}
+     *
+     * @param itemStack The item stack
+     * @param name The name, ignored if null or empty
+     */
+    public static void applyName(ItemStack itemStack, ITextComponent name) {
+        if (name == null || name.getString().isEmpty()) {
+            return;
+        }
+
+        CompoundNBT display = itemStack.getOrCreateTagElement("display");
+        name = name.copy();
+
+        if (name instanceof IFormattableTextComponent) {
+            name = ((IFormattableTextComponent) name).setStyle(name.getStyle().withItalic(false));
+        }
+
+        display.put("Name", StringNBT.valueOf(ITextComponent.Serializer.toJson(name)));
+        itemStack.addTagElement("display", display);
+    }
+
+    /**
+     *
+     * Sets the lore of the item stack in the same way as {@link #build()}
+     *
+     * @param itemStack The item stack
+     * @param lore The lore, ignored if null or empty
+     */
+    public static void applyLore(ItemStack itemStack, List<ITextComponent> lore) {
+        if (lore == null || lore.isEmpty()) {
+            return;
+        }
+
+        CompoundNBT display = itemStack.getOrCreateTagElement("display");
+        ListNBT loreTag = new ListNBT();
+
+        lore.forEach(s -> {
+            if (s instanceof IFormattableTextComponent) {
+                s = ((IFormattableTextComponent) s).setStyle(s.getStyle().withItalic(false));
+            }
+
+            loreTag.add(StringNBT.valueOf(ITextComponent.Serializer.toJson(s)));
+        });
+
+        display.put("Lore", loreTag);
+        itemStack.addTagElement("display", display);
+    }
+
     /**
      *
      * Method to create a copy of the ItemBuilder in a new instance
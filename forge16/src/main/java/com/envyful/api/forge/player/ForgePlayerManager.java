@@ -18,6 +18,7 @@ import net.minecraftforge.fml.event.server.FMLServerStoppingEvent;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
@@ -108,5 +109,14 @@ public class ForgePlayerManager extends AbstractPlayerManager<ForgeEnvyPlayer, S
                 player.setParent((ServerPlayerEntity) event.getPlayer());
             }, 5L);
         }
+
+        @SubscribeEvent(priority = EventPriority.HIGHEST)
+        public void onServerStopping(FMLServerStoppingEvent event) {
+            shutdownSaveQueue(30, TimeUnit.SECONDS);
+
+            if (ForgePlayerManager.this.nameStore != null) {
+                ForgePlayerManager.this.nameStore.shutdown();
+            }
+        }
     }
 }
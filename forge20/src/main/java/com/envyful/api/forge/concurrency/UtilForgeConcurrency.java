@@ -1,5 +1,8 @@
 package com.envyful.api.forge.concurrency;
 
+import com.envyful.api.concurrency.tick.SyncPriority;
+import com.envyful.api.concurrency.tick.SyncTaskQueue;
+import com.envyful.api.concurrency.tick.TickTask;
 import com.envyful.api.forge.concurrency.listener.ServerTickListener;
 import net.minecraftforge.common.MinecraftForge;
 
@@ -21,53 +24,93 @@ public class UtilForgeConcurrency {
 
     /**
      *
-     * Passes runnable task to be run on the main minecraft thread {@param delay} ticks later
+     * Passes runnable task to be run on the main minecraft thread delay ticks later
      *
      * @param runnable The runnable to be run on the main thread
      * @param delay the delay in ticks
      */
     public static void runLater(Runnable runnable, int delay) {
-        TICK_LISTENER.addTask(() -> processRunLater(runnable, delay));
+        scheduleLater(runnable, delay);
     }
 
-    private static void processRunLater(Runnable runnable, int delay) {
-        if (delay >= 0) {
-            int finalDelay = delay - 1;
-            TICK_LISTENER.addTask(() -> processRunLater(runnable, finalDelay));
-            return;
-        }
-
-        TICK_LISTENER.addTask(runnable);
+    /**
+     *
+     * Passes runnable task to be run on the main minecraft thread delay ticks later
+     *
+     * @param runnable The runnable to be run on the main thread
+     * @param delay the delay in ticks
+     * @return The handle for the task
+     */
+    public static TickTask scheduleLater(Runnable runnable, int delay) {
+        return TICK_LISTENER.getScheduler().schedule(runnable, delay);
     }
 
     /**
      *
-     * Executes the runnable task the tick after the predicate returns true
+     * Executes the runnable task once the predicate returns true, testing it every tick after the delay
      *
      * @param predicate The predicate to use
+     * @param delay the delay in ticks before the first test
      * @param runnable The runnable to execute
      */
     public static void runLaterWhenTrue(Predicate<Runnable> predicate, int delay, Runnable runnable) {
-        runLater(() -> attemptRun(predicate, runnable), delay);
+        scheduleLaterWhenTrue(predicate, delay, runnable);
     }
 
     /**
      *
-     * Executes the runnable task the tick after the predicate returns true
+     * Executes the runnable task once the predicate returns true, testing it every tick after the delay
+     *
+     * @param predicate The predicate to use
+     * @param delay the delay in ticks before the first test
+     * @param runnable The runnable to execute
+     * @return The handle for the task
+     */
+    public static TickTask scheduleLaterWhenTrue(Predicate<Runnable> predicate, int delay, Runnable runnable) {
+        return TICK_LISTENER.getScheduler().scheduleWhen(predicate, runnable, delay);
+    }
+
+    /**
+     *
+     * Executes the runnable task once the predicate returns true, testing it every tick
      *
      * @param predicate The predicate to use
      * @param runnable The runnable to execute
      */
     public static void runWhenTrue(Predicate<Runnable> predicate, Runnable runnable) {
-        TICK_LISTENER.addTask(() -> attemptRun(predicate, runnable));
+        scheduleWhenTrue(predicate, runnable);
     }
 
-    private static void attemptRun(Predicate<Runnable> predicate, Runnable runnable) {
-        if (!predicate.test(runnable)) {
-            TICK_LISTENER.addTask(() -> attemptRun(predicate, runnable));
-            return;
-        }
+    /**
+     *
+     * Executes the runnable task once the predicate returns true, testing it every tick
+     *
+     * @param predicate The predicate to use
+     * @param runnable The runnable to execute
+     * @return The handle for the task
+     */
+    public static TickTask scheduleWhenTrue(Predicate<Runnable> predicate, Runnable runnable) {
+        return TICK_LISTENER.getScheduler().scheduleWhen(predicate, runnable, 1);
+    }
+
+    /**
+     *
+     * Queues the runnable to be run on the main minecraft thread within the per tick sync budget
+     *
+     * @param runnable The runnable to be run on the main thread
+     * @param priority The priority of the runnable
+     */
+    public static void runSync(Runnable runnable, SyncPriority priority) {
+        TICK_LISTENER.getSyncQueue().submit(runnable, priority);
+    }
 
-        TICK_LISTENER.addTask(runnable);
+    /**
+     *
+     * Gets the queue tasks passed to the main thread are run through
+     *
+     * @return The queue
+     */
+    public static SyncTaskQueue getSyncTaskQueue() {
+        return TICK_LISTENER.getSyncQueue();
     }
 }
@@ -30,14 +30,10 @@ public class ForgeGuiTickHandler implements TickHandler {
 
     @Override
     public void tick(Pane pane) {
-        this.ticks++;
-
-        if (!this.shouldRun()) {
+        if (!this.advance(1)) {
             return;
         }
 
-        this.lastRun = this.ticks;
-
         if (this.async) {
             this.handler.accept(pane);
         } else {
@@ -45,6 +41,56 @@ public class ForgeGuiTickHandler implements TickHandler {
         }
     }
 
+    /**
+     *
+     * Moves the handler forward by the given number of ticks without running it
+     *
+     * @param ticks The number of ticks that have passed
+     * @return True if the handler is due to run, in which case it's treated as having run
+     */
+    public boolean advance(int ticks) {
+        this.ticks += ticks;
+
+        if (!this.shouldRun()) {
+            return false;
+        }
+
+        this.lastRun = this.ticks;
+        return true;
+    }
+
+    /**
+     *
+     * Runs the handler on the current thread
+     *
+     * @param pane The pane being ticked
+     */
+    public void run(Pane pane) {
+        this.handler.accept(pane);
+    }
+
+    /**
+     *
+     * Gets the number of ticks until the handler is next due to run
+     *
+     * @return The number of ticks, always at least one
+     */
+    public int getTicksUntilDue() {
+        int dueTick;
+
+        if (this.lastRun == -1) {
+            dueTick = Math.max(1, this.initialDelay);
+        } else {
+            dueTick = this.lastRun + Math.max(1, this.repeatDelay);
+        }
+
+        return Math.max(1, dueTick - this.ticks);
+    }
+
+    public boolean isAsync() {
+        return this.async;
+    }
+
     private boolean shouldRun() {
         if (this.lastRun == -1) {
             if (this.initialDelay == 0) {
@@ -282,22 +282,8 @@ public class ItemBuilder implements Cloneable {
             itemStack.setTag(compound);
         }
 
-        if (this.name != null && !this.name.getString().isEmpty()) {
-            CompoundTag display = itemStack.getOrCreateTagElement("display");
-            Component name = this.name.copy().withStyle(style -> style.withItalic(false));
-            display.put("Name", StringTag.valueOf(Component.Serializer.toJson(name)));
-            itemStack.addTagElement("display", display);
-        }
-
-        if (this.lore != null && !this.lore.isEmpty()) {
-            CompoundTag display = itemStack.getOrCreateTagElement("display");
-            ListTag lore = new ListTag();
-
-            this.lore.forEach(s -> lore.add(StringTag.valueOf(Component.Serializer.toJson(s.copy().withStyle(style -> style.withItalic(false))))));
-
-            display.put("Lore", lore);
-            itemStack.addTagElement("display", display);
-        }
+        applyName(itemStack, this.name);
+        applyLore(itemStack, this.lore);
 
         if (this.unbreakable) {
             itemStack.getTag().putInt("Unbreakable", 1);
@@ -314,12 +300,51 @@ public class ItemBuilder implements Cloneable {
                 hideFlags += itemFlag.getNbtId();
             }
 
-            itemStack.getTag().putInt("HideFlags", hideFlags);
+            itemStack.getOrCreateTag().putInt("HideFlags", hideFlags);
         }
 
         return itemStack;
     }
 
+    /**
+     *
+     * Sets the display name of the item stack in the same way as {@link #build()}
+     *
+     * @param itemStack The item stack
+     * @param name The name, ignored if null or empty
+     */
+    public static void applyName(ItemStack itemStack, Component name) {
+        if (name == null || name.getString().isEmpty()) {
+            return;
+        }
+
+        CompoundTag display = itemStack.getOrCreateTagElement("display");
+        Component nonItalic = name.copy().withStyle(style -> style.withItalic(false));
+        display.put("Name", StringTag.valueOf(Component.Serializer.toJson(nonItalic)));
+        itemStack.addTagElement("display", display);
+    }
+
+    /**
+     *
+     * Sets the lore of the item stack in the same way as {@link #build()}
+     *
+     * @param itemStack The item stack
+     * @param lore The lore, ignored if null or empty
+     */
+    public static void applyLore(ItemStack itemStack, List<Component> lore) {
+        if (lore == null || lore.isEmpty()) {
+            return;
+        }
+
+        CompoundTag display = itemStack.getOrCreateTagElement("display");
+        ListTag loreTag = new ListTag();
+
+        lore.forEach(s -> loreTag.add(StringTag.valueOf(Component.Serializer.toJson(s.copy().withStyle(style -> style.withItalic(false))))));
+
+        display.put("Lore", loreTag);
+        itemStack.addTagElement("display", display);
+    }
+
     /**
      *
      * Method to create a copy of the ItemBuilder in a new instance
@@ -1,9 +1,12 @@
 package com.envyful.api.forge.platform;
 
 import com.envyful.api.concurrency.UtilLogger;
+import com.envyful.api.concurrency.tick.SyncPriority;
+import com.envyful.api.concurrency.tick.SyncTaskQueue;
 import com.envyful.api.config.ConfigToast;
 import com.envyful.api.config.type.ConfigItem;
 import com.envyful.api.forge.InitializationTask;
+import com.envyful.api.forge.concurrency.UtilForgeConcurrency;
 import com.envyful.api.forge.player.util.UtilPlayer;
 import com.envyful.api.forge.player.util.UtilToast;
 import com.envyful.api.platform.PlatformHandler;
@@ -121,7 +124,30 @@ public class ForgePlatformHandler extends StandardPlatformHandler<CommandSource>
 
     @Override
     public void runSync(Runnable runnable) {
-        ServerLifecycleHooks.getCurrentServer().execute(runnable);
+        this.runSync(runnable, SyncPriority.PLAYER);
+    }
+
+    @Override
+    public void runSync(Runnable runnable, SyncPriority priority) {
+        var server = ServerLifecycleHooks.getCurrentServer();
+
+        if (server.isSameThread()) {
+            runnable.run();
+            return;
+        }
+
+        // The tick budget is only drained while the server ticks, so let the server run it during shutdown
+        if (!server.isRunning()) {
+            server.execute(runnable);
+            return;
+        }
+
+        UtilForgeConcurrency.runSync(runnable, priority);
+    }
+
+    @Override
+    public SyncTaskQueue getSyncTaskQueue() {
+        return UtilForgeConcurrency.getSyncTaskQueue();
     }
 
     @Override
@@ -151,7 +177,7 @@ public class ForgePlatformHandler extends StandardPlatformHandler<CommandSource>
                     server.getCommands().performPrefixedCommand(commandSourceStack, handlePlaceholder);
                 }
             }
-        });
+        }, SyncPriority.BACKGROUND);
     }
 
     @Override
@@ -18,6 +18,7 @@ import net.minecraftforge.eventbus.api.SubscribeEvent;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
@@ -110,5 +111,14 @@ public class ForgePlayerManager extends AbstractPlayerManager<ForgeEnvyPlayer, S
                 player.setParent((ServerPlayer) event.getEntity());
             }, 5L);
         }
+
+        @SubscribeEvent(priority = EventPriority.HIGHEST)
+        public void onServerStopping(ServerStoppingEvent event) {
+            shutdownSaveQueue(30, TimeUnit.SECONDS);
+
+            if (ForgePlayerManager.this.nameStore != null) {
+                ForgePlayerManager.this.nameStore.shutdown();
+            }
+        }
     }
 }
@@ -42,6 +42,17 @@ public class H2Database implements Database {
         return this.connection;
     }
 
+    @Override
+    public String getUpsertSQL(String table, String keyColumn, String... columns) {
+        var sql = new StringBuilder("MERGE INTO `").append(table).append("` (").append(keyColumn);
+
+        for (var column : columns) {
+            sql.append(", ").append(column);
+        }
+
+        return sql.append(") KEY(").append(keyColumn).append(") VALUES (?").append(", ?".repeat(columns.length)).append(");").toString();
+    }
+
     @Override
     public void close() {
         try {
@@ -2,6 +2,7 @@ package com.envyful.api.neoforge.chat;
 
 import com.envyful.api.platform.text.TextFormatter;
 import com.envyful.api.text.Placeholder;
+import com.envyful.api.type.cache.CacheStats;
 import net.minecraft.network.chat.Component;
 
 import java.util.List;
@@ -32,6 +33,11 @@ public class ComponentTextFormatter implements TextFormatter<Component> {
         return UtilChatColour.stripColor(text);
     }
 
+    @Override
+    public CacheStats getCacheStats() {
+        return UtilChatColour.getCacheStats();
+    }
+
     public static ComponentTextFormatter getInstance() {
         return INSTANCE;
     }
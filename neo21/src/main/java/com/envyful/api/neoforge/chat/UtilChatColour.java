@@ -2,6 +2,12 @@ package com.envyful.api.neoforge.chat;
 
 import com.envyful.api.text.Placeholder;
 import com.envyful.api.text.PlaceholderFactory;
+import com.envyful.api.text.template.ColourCodeScanner;
+import com.envyful.api.text.template.PlaceholderBindings;
+import com.envyful.api.text.template.PlaceholderTemplate;
+import com.envyful.api.type.cache.CacheStats;
+import com.envyful.api.type.cache.EvictionPolicy;
+import com.envyful.api.type.cache.ExpiringCache;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
@@ -10,11 +16,11 @@ import net.minecraft.network.chat.TextColor;
 import net.neoforged.neoforge.server.ServerLifecycleHooks;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -29,66 +35,167 @@ public class UtilChatColour {
     public static final Pattern COLOUR_PATTERN = Pattern.compile("&(#\\w{6}|[\\da-zA-Z])");
     public static final Pattern STRIP_PATTERN = Pattern.compile("(?i)&([0-9A-FK-ORX]|#([A-F0-9]{6}|[A-F0-9]{3}))");
 
+    private static final int CACHE_SIZE = 4096;
+
+    private static final ExpiringCache<String, CompiledText> CACHE = ExpiringCache.<String, CompiledText>builder()
+            .maximumSize(CACHE_SIZE)
+            .evictionPolicy(EvictionPolicy.tinyLfu(CACHE_SIZE))
+            .build();
+
+    /**
+     *
+     * Parses each line to a {@link Component}, replacing the placeholders as the line is parsed
+     * <br>
+     * Each source line is compiled once into a cached template of styled runs of text, with its {@code %key%}
+     * tokens left in the runs as holes. When the placeholders can all be expressed as {@code %key%} bindings the
+     * holes are filled in as the component is built, so the cache is keyed by the line before its placeholders
+     * are replaced. Values containing colour codes fall back to parsing the filled in line
+     *
+     * @param text The unformatted lines
+     * @param placeholders The placeholders
+     * @return The formatted lines, excluding any removed by a placeholder
+     */
     public static List<Component> colour(Collection<String> text, Placeholder... placeholders) {
-        return PlaceholderFactory.handlePlaceholders(List.copyOf(text), UtilChatColour::colour, placeholders);
+        var bindings = PlaceholderBindings.of(placeholders, PlaceholderFactory.getGlobalPlaceholders());
+        List<Component> components = new ArrayList<>(text.size());
+
+        for (var line : text) {
+            if (line == null) {
+                continue;
+            }
+
+            if (bindings == null) {
+                for (var replaced : PlaceholderFactory.handlePlaceholders(line, placeholders)) {
+                    if (replaced != null) {
+                        components.add(parse(line, replaced));
+                    }
+                }
+
+                continue;
+            }
+
+            var component = parseCached(line).build(line, bindings);
+
+            if (component != null) {
+                components.add(component);
+            }
+        }
+
+        return components;
     }
 
     /**
      *
      * Parses the string to a {@link Component} with the correctly formatted colour codes and hex codes
+     * <br>
+     * Each distinct line is only compiled once and then kept in a bounded cache. Callers are given a newly built
+     * component that shares nothing with the cache, so appending to it or restyling it is safe
      *
      * @param text The unformatted text
      * @return The newly formatted text
      */
     public static Component colour(String text, Placeholder... placeholders) {
-        if (text.contains("{")) {
-            try {
-                return Component.Serializer.fromJson(text, ServerLifecycleHooks.getCurrentServer().registryAccess());
-            } catch (Exception ignored) {}
+        if (looksLikeJson(text)) {
+            var compiled = parseCached(text);
+
+            if (compiled.json != null) {
+                return compiled.build(text, null);
+            }
         }
 
-        text = String.join("\n", PlaceholderFactory.handlePlaceholders(text, placeholders));
-        Matcher matcher = COLOUR_PATTERN.matcher(text);
-        MutableComponent textComponent = Component.literal("");
-        ChatFormatting nextApply = null;
-        int lastEnd = 0;
-        TextColor lastColor = null;
+        var bindings = PlaceholderBindings.of(placeholders, PlaceholderFactory.getGlobalPlaceholders());
+
+        if (bindings == null) {
+            return parse(text, String.join("\n", PlaceholderFactory.handlePlaceholders(text, placeholders)));
+        }
 
-        while (matcher.find()) {
-            var start = matcher.start();
-            var segment = text.substring(lastEnd, start);
-            var iFormattableTextComponent = attemptAppend(textComponent, segment, lastColor, placeholders);
+        var component = parseCached(text).build(text, bindings);
+        return component == null ? Component.literal("") : component;
+    }
 
-            if (nextApply != null && iFormattableTextComponent != null) {
-                iFormattableTextComponent.withStyle(nextApply);
+    /**
+     *
+     * Gets the usage statistics of the parsed text cache
+     *
+     * @return The stats
+     */
+    public static CacheStats getCacheStats() {
+        return CACHE.getStats();
+    }
+
+    private static boolean looksLikeJson(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            var c = text.charAt(i);
+
+            if (!Character.isWhitespace(c)) {
+                return c == '{' || c == '[';
             }
+        }
 
-            lastEnd = matcher.end();
-            String colourCode = matcher.group(1);
-            var colour = parseColour(colourCode);
+        return false;
+    }
 
-            if (colour.isPresent()) {
-                lastColor = colour.get();
-                nextApply = null;
-            } else {
-                var byCode = ChatFormatting.getByCode(colourCode.toCharArray()[0]);
+    private static Component parse(String source, String replaced) {
+        if (source.equals(replaced)) {
+            return parseCached(source).build(source, null);
+        }
+
+        // Placeholders that can't be bound change the line itself, so caching it would only churn the cache
+        return compile(replaced).build(replaced, null);
+    }
+
+    private static Component parseRendered(String line, PlaceholderBindings bindings) {
+        var rendered = PlaceholderTemplate.resolve(line, bindings);
+
+        if (rendered == null) {
+            return null;
+        }
+
+        if (looksLikeJson(rendered)) {
+            var text = rendered.toString();
+            return compile(text).build(text, null);
+        }
+
+        return compileLegacy(rendered).build(line, null);
+    }
+
+    private static CompiledText parseCached(String text) {
+        if (ServerLifecycleHooks.getCurrentServer() == null) {
+            // JSON can't be parsed without the server's registries so don't cache lines that fell back to legacy
+            return compileLegacy(text);
+        }
+
+        return CACHE.get(text, UtilChatColour::compile);
+    }
 
-                if (byCode != null) {
-                    nextApply = byCode;
-                } else {
-                    textComponent.append(Component.literal("&" + colourCode));
+    private static CompiledText compile(String text) {
+        if (looksLikeJson(text)) {
+            try {
+                var component = Component.Serializer.fromJson(text, ServerLifecycleHooks.getCurrentServer().registryAccess());
+
+                if (component != null) {
+                    return new CompiledText(component);
                 }
-            }
+            } catch (Exception ignored) {}
         }
 
-        var segment = text.substring(lastEnd);
-        var iFormattableTextComponent = attemptAppend(textComponent, segment, lastColor, placeholders);
+        return compileLegacy(text);
+    }
+
+    private static CompiledText compileLegacy(CharSequence text) {
+        var visitor = new TemplateVisitor();
+        ColourCodeScanner.scan(text, visitor);
+        return new CompiledText(visitor.texts.toArray(new String[0]), visitor.styles.toArray(new Style[0]));
+    }
+
+    private static MutableComponent deepCopy(Component component) {
+        var copy = component.plainCopy().setStyle(component.getStyle());
 
-        if (nextApply != null && iFormattableTextComponent != null) {
-            iFormattableTextComponent.withStyle(nextApply);
+        for (var sibling : component.getSiblings()) {
+            copy.append(deepCopy(sibling));
         }
 
-        return textComponent;
+        return copy;
     }
 
     /**
@@ -186,4 +293,139 @@ public class UtilChatColour {
 
         return STRIP_PATTERN.matcher(input).replaceAll("");
     }
+
+    /**
+     *
+     * Splits the scanned text into runs of text and the style each is shown with. A colour lasts until the next
+     * colour, and a formatting code replaces any earlier one and lasts until the next colour
+     *
+     */
+    private static final class TemplateVisitor implements ColourCodeScanner.Visitor {
+
+        private final List<String> texts = new ArrayList<>();
+        private final List<Style> styles = new ArrayList<>();
+
+        private ChatFormatting nextApply = null;
+        private TextColor lastColour = null;
+
+        @Override
+        public void text(String text) {
+            var style = this.lastColour == null ? Style.EMPTY : Style.EMPTY.withColor(this.lastColour);
+
+            if (this.nextApply != null) {
+                style = style.applyFormat(this.nextApply);
+            }
+
+            this.texts.add(text);
+            this.styles.add(style);
+        }
+
+        @Override
+        public void code(String code) {
+            var colour = parseColour(code);
+
+            if (colour.isPresent()) {
+                this.lastColour = colour.get();
+                this.nextApply = null;
+                return;
+            }
+
+            var byCode = ChatFormatting.getByCode(code.charAt(0));
+
+            if (byCode != null) {
+                this.nextApply = byCode;
+            } else {
+                this.texts.add("&" + code);
+                this.styles.add(Style.EMPTY);
+            }
+        }
+    }
+
+    /**
+     *
+     * A line compiled once from its source text, either a parsed JSON component or the styled runs of text
+     * between its colour codes with any {@code %key%} tokens left in them as holes. The template is never
+     * handed out, each component is built from it fresh
+     *
+     */
+    private static final class CompiledText {
+
+        private final Component json;
+        private final String[] texts;
+        private final Style[] styles;
+
+        private CompiledText(Component json) {
+            this.json = json;
+            this.texts = null;
+            this.styles = null;
+        }
+
+        private CompiledText(String[] texts, Style[] styles) {
+            this.json = null;
+            this.texts = texts;
+            this.styles = styles;
+        }
+
+        /**
+         *
+         * Builds a new component from the template, filling in the holes from the bindings
+         *
+         * @param source The line the template was compiled from
+         * @param bindings The bindings, or null to leave the tokens as they are
+         * @return The component, or null if the line was removed by a binding
+         */
+        private Component build(String source, PlaceholderBindings bindings) {
+            if (this.json != null) {
+                return this.buildJson(source, bindings);
+            }
+
+            var component = Component.literal("");
+
+            for (int i = 0; i < this.texts.length; i++) {
+                var text = this.texts[i];
+
+                if (bindings != null && text.indexOf('%') != -1) {
+                    var rendered = PlaceholderTemplate.resolve(text, bindings);
+
+                    if (rendered == null) {
+                        return null;
+                    }
+
+                    if (rendered.isReplaced()) {
+                        text = rendered.toString();
+
+                        // A value with colour codes, or one that turns the line into JSON, changes how it parses
+                        if (text.indexOf('&') != -1 || (i == 0 && looksLikeJson(text))) {
+                            return parseRendered(source, bindings);
+                        }
+                    }
+                }
+
+                if (!text.isEmpty()) {
+                    component.append(Component.literal(text).setStyle(this.styles[i]));
+                }
+            }
+
+            return component;
+        }
+
+        private Component buildJson(String source, PlaceholderBindings bindings) {
+            if (bindings == null) {
+                return deepCopy(this.json);
+            }
+
+            var rendered = PlaceholderTemplate.resolve(source, bindings);
+
+            if (rendered == null) {
+                return null;
+            }
+
+            if (!rendered.isReplaced()) {
+                return deepCopy(this.json);
+            }
+
+            var text = rendered.toString();
+            return compile(text).build(text, null);
+        }
+    }
 }
@@ -0,0 +1,48 @@
+package com.envyful.api.neoforge.concurrency;
+
+import com.envyful.api.concurrency.UtilConcurrency;
+import com.envyful.api.concurrency.UtilLogger;
+import com.envyful.api.concurrency.pool.ExecutorPool;
+
+import java.util.concurrent.Executors;
+
+/**
+ *
+ * Static utility class for running the {@link UtilConcurrency} IO pool on virtual threads
+ * <br>
+ * With a virtual thread per task, blocking IO no longer ties up a platform thread, so slow
+ * queries and requests cannot exhaust the pool. Enabled on startup when the system property
+ * `envyware.concurrency.io.virtual` is true
+ *
+ */
+public class UtilVirtualThreads {
+
+    private UtilVirtualThreads() {
+        throw new UnsupportedOperationException("Static utility class");
+    }
+
+    /**
+     *
+     * Enables the virtual thread IO pool if the system property is set
+     *
+     */
+    public static void enableIfConfigured() {
+        if (Boolean.getBoolean("envyware.concurrency.io.virtual")) {
+            enableVirtualThreadIO();
+        }
+    }
+
+    /**
+     *
+     * Replaces the IO pool with one that runs each task on a new virtual thread
+     *
+     */
+    public static void enableVirtualThreadIO() {
+        var threadFactory = Thread.ofVirtual()
+                .name("envyware_io_virtual_", 0)
+                .uncaughtExceptionHandler((t, e) -> UtilLogger.getLogger().error("Error while executing io task", e))
+                .factory();
+
+        UtilConcurrency.setIOPool(ExecutorPool.of("io", Executors.newThreadPerTaskExecutor(threadFactory)));
+    }
+}
@@ -1,37 +1,65 @@
 package com.envyful.api.neoforge.concurrency.listener;
 
+import com.envyful.api.concurrency.tick.SyncTaskQueue;
+import com.envyful.api.concurrency.tick.TickScheduler;
+import com.envyful.api.concurrency.tick.TickTask;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.neoforge.event.tick.ServerTickEvent;
 
-import java.util.Iterator;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  *
  * Simple listener class for running tasks on the minecraft thread.
+ * Tasks are run by a {@link TickScheduler} advanced once per server tick, followed by
+ * the tasks passed to the main thread through the {@link SyncTaskQueue}
  *
  */
 public class ServerTickListener {
 
+    private final TickScheduler scheduler = TickScheduler.builder().build();
+    private final SyncTaskQueue syncQueue = SyncTaskQueue.builder().build();
     private final Set<Runnable> tasks = ConcurrentHashMap.newKeySet();
 
     @SubscribeEvent
     public void onServerTick(ServerTickEvent.Pre event) {
-        Iterator<Runnable> iterator = tasks.iterator();
-
-        while (iterator.hasNext()) {
-            Runnable next = iterator.next();
-            next.run();
-            iterator.remove();
-        }
+        this.scheduler.tick();
+        this.syncQueue.drain();
     }
 
     public void addTask(Runnable runnable) {
+        this.scheduleTask(runnable);
+    }
+
+    /**
+     *
+     * Schedules the runnable to run on the next tick
+     *
+     * @param runnable The runnable
+     * @return The handle for the task
+     */
+    public TickTask scheduleTask(Runnable runnable) {
         this.tasks.add(runnable);
+
+        return this.scheduler.schedule(() -> {
+            try {
+                runnable.run();
+            } finally {
+                this.tasks.remove(runnable);
+            }
+        }, 1);
     }
 
     public boolean hasTask(Runnable runnable) {
-        return tasks.contains(runnable);
+        return this.tasks.contains(runnable);
+    }
+
+    public TickScheduler getScheduler() {
+        return this.scheduler;
+    }
+
+    public SyncTaskQueue getSyncQueue() {
+        return this.syncQueue;
     }
 }
@@ -1,5 +1,7 @@
 package com.envyful.api.neoforge.gui;
 
+import com.envyful.api.concurrency.UtilConcurrency;
+import com.envyful.api.concurrency.UtilLogger;
 import com.envyful.api.gui.Gui;
 import com.envyful.api.gui.item.Displayable;
 import com.envyful.api.gui.pane.Pane;
@@ -7,6 +9,7 @@ import com.envyful.api.neoforge.concurrency.UtilForgeConcurrency;
 import com.envyful.api.neoforge.gui.close.ForgeCloseConsumer;
 import com.envyful.api.neoforge.gui.item.EmptySlot;
 import com.envyful.api.neoforge.gui.pane.ForgeSimplePane;
+import com.envyful.api.neoforge.gui.ticker.ForgeGuiTickHandler;
 import com.envyful.api.neoforge.player.ForgeEnvyPlayer;
 import com.envyful.api.platform.PlatformProxy;
 import com.envyful.api.player.EnvyPlayer;
@@ -28,6 +31,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  *
@@ -44,6 +48,7 @@ public class ForgeGui implements Gui {
     private final MenuType<?> containerType;
 
     private final List<ForgeGuiContainer> containers = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean tickScheduled = new AtomicBoolean();
 
     ForgeGui(Component title, int height,
              ForgeCloseConsumer closeConsumer, Pane... panes) {
@@ -93,6 +98,7 @@ public class ForgeGui implements Gui {
                 parent.containerMenu = new ForgeGuiContainer(this, parent, parent.containerMenu.containerId);
                 ((ForgeGuiContainer) parent.containerMenu).refreshPlayerContents();
                 this.containers.add(((ForgeGuiContainer) parent.containerMenu));
+                this.scheduleTick();
                 future.complete(null);
             });
             return future;
@@ -108,6 +114,7 @@ public class ForgeGui implements Gui {
                 ForgeGuiTracker.dequeueUpdate(parent);
                 parent.containerMenu.broadcastChanges();
                 this.containers.add(((ForgeGuiContainer) parent.containerMenu));
+                this.scheduleTick();
                 ForgeGuiTracker.addGui(player, this);
                 future.complete(null);
             });
@@ -116,19 +123,141 @@ public class ForgeGui implements Gui {
         return future;
     }
 
-    public void update() {
-        for (ForgeGuiContainer value : this.containers) {
-            boolean updated = false;
-            for (ForgeSimplePane pane : value.gui.panes) {
-                if (pane.getTickHandler() != null) {
-                    updated = true;
+    /**
+     *
+     * Schedules the next tick of the GUI for when its earliest tick handler is due. Nothing is scheduled if the
+     * GUI has no tick handlers, no viewers, or a tick is already scheduled
+     *
+     */
+    void scheduleTick() {
+        if (this.containers.isEmpty() || !this.tickScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        var delay = this.getTicksUntilDue();
+
+        if (delay == -1) {
+            this.tickScheduled.set(false);
+            return;
+        }
+
+        UtilForgeConcurrency.runLater(() -> this.tick(delay), delay);
+    }
+
+    private int getTicksUntilDue() {
+        int delay = -1;
+
+        for (var pane : this.panes) {
+            if (pane == null || pane.getTickHandler() == null) {
+                continue;
+            }
+
+            int ticks = pane.getTickHandler() instanceof ForgeGuiTickHandler ?
+                    ((ForgeGuiTickHandler) pane.getTickHandler()).getTicksUntilDue() : 1;
+
+            if (delay == -1 || ticks < delay) {
+                delay = ticks;
+            }
+        }
+
+        return delay;
+    }
+
+    private void tick(int elapsed) {
+        if (this.containers.isEmpty()) {
+            this.tickScheduled.set(false);
+            return;
+        }
+
+        List<CompletableFuture<PaneChanges>> precompute = new ArrayList<>();
+        boolean updated = false;
+
+        for (var pane : this.panes) {
+            if (pane == null || pane.getTickHandler() == null) {
+                continue;
+            }
+
+            try {
+                if (!(pane.getTickHandler() instanceof ForgeGuiTickHandler)) {
                     pane.getTickHandler().tick(pane);
+                    updated = true;
+                    continue;
+                }
+
+                var tickHandler = (ForgeGuiTickHandler) pane.getTickHandler();
+
+                if (!tickHandler.advance(elapsed)) {
+                    continue;
+                }
+
+                updated = true;
+
+                if (tickHandler.isAsync()) {
+                    precompute.add(CompletableFuture.supplyAsync(() -> this.record(pane, tickHandler), UtilConcurrency.getCPUPool()));
+                } else {
+                    tickHandler.run(pane);
                 }
+            } catch (Exception e) {
+                UtilLogger.getLogger().error("Error when ticking GUI", e);
             }
+        }
+
+        if (precompute.isEmpty()) {
+            this.completeTick(updated, List.of());
+            return;
+        }
+
+        CompletableFuture.allOf(precompute.toArray(new CompletableFuture[0])).thenRun(() -> {
+            List<PaneChanges> changes = new ArrayList<>(precompute.size());
 
-            if (updated) {
-                value.update(this.panes, false);
+            for (CompletableFuture<PaneChanges> future : precompute) {
+                changes.add(future.join());
             }
+
+            this.completeTick(true, changes);
+        });
+    }
+
+    private PaneChanges record(ForgeSimplePane pane, ForgeGuiTickHandler tickHandler) {
+        PaneChanges changes = new PaneChanges(pane);
+
+        try {
+            tickHandler.run(changes);
+        } catch (Exception e) {
+            UtilLogger.getLogger().error("Error when ticking GUI", e);
+        }
+
+        return changes;
+    }
+
+    private void completeTick(boolean updated, List<PaneChanges> changes) {
+        if (updated) {
+            ForgeGuiTracker.enqueueRefresh(this, changes);
+        }
+
+        this.tickScheduled.set(false);
+        this.scheduleTick();
+    }
+
+    /**
+     *
+     * Updates the slots of every player viewing the GUI from the panes
+     *
+     * @deprecated Use {@link #refresh()} instead
+     */
+    @Deprecated
+    public void update() {
+        this.refresh();
+    }
+
+    /**
+     *
+     * Updates the slots of every player viewing the GUI from the panes
+     *
+     */
+    public void refresh() {
+        for (var container : this.containers) {
+            container.update(this.panes, false);
         }
     }
 
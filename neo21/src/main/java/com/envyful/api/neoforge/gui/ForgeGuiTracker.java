@@ -1,42 +1,35 @@
 package com.envyful.api.neoforge.gui;
 
-import com.envyful.api.concurrency.UtilConcurrency;
 import com.envyful.api.concurrency.UtilLogger;
+import com.envyful.api.concurrency.tick.SyncPriority;
+import com.envyful.api.neoforge.concurrency.UtilForgeConcurrency;
 import com.envyful.api.player.EnvyPlayer;
 import net.minecraft.server.level.ServerPlayer;
-import net.neoforged.neoforge.server.ServerLifecycleHooks;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  *
- * A class to track all open {@link ForgeGui}s and update them every tick (to update any changed items after player clicks)
+ * A class to track all open {@link ForgeGui}s and refresh them on the main thread once their panes have ticked
+ * <br>
+ * GUIs schedule their own ticks for when their next tick handler is due, so GUIs without a due handler cost nothing.
+ * GUIs whose panes changed are refreshed together in a single pass through the sync task queue, which is also where
+ * the changes recorded by async tick handlers are applied to the panes
  *
  */
 public class ForgeGuiTracker {
 
     private static final Map<UUID, ForgeGui> OPEN_GUIS = new ConcurrentHashMap<>();
     private static final Set<UUID> REQUIRED_UPDATE = Collections.newSetFromMap(new ConcurrentHashMap<>());
-
-    static {
-        UtilConcurrency.runRepeatingTask(() -> {
-            if (ServerLifecycleHooks.getCurrentServer() == null) {
-                return;
-            }
-
-            for (ForgeGui value : OPEN_GUIS.values()) {
-                try {
-                    value.update();
-                } catch (Exception e) {
-                    UtilLogger.getLogger().error("Error when ticking GUI", e);
-                }
-            }
-        }, 50L, 50L);
-    }
+    private static final Map<ForgeGui, List<PaneChanges>> REQUIRED_REFRESH = new ConcurrentHashMap<>();
+    private static final AtomicBoolean REFRESH_QUEUED = new AtomicBoolean();
 
     public static void addGui(EnvyPlayer<?> player, ForgeGui gui) {
         if (player == null) {
@@ -74,4 +67,59 @@ public class ForgeGuiTracker {
         REQUIRED_UPDATE.remove(player.getUUID());
     }
 
+    /**
+     *
+     * Queues the GUI to be refreshed on the main thread in the next batched refresh
+     *
+     * @param gui The GUI
+     */
+    public static void enqueueRefresh(ForgeGui gui) {
+        enqueueRefresh(gui, List.of());
+    }
+
+    /**
+     *
+     * Queues the GUI to be refreshed on the main thread in the next batched refresh, applying the changes to its
+     * panes first
+     *
+     * @param gui The GUI
+     * @param changes The changes recorded by async tick handlers
+     */
+    static void enqueueRefresh(ForgeGui gui, List<PaneChanges> changes) {
+        REQUIRED_REFRESH.merge(gui, changes, (queued, added) -> {
+            if (added.isEmpty()) {
+                return queued;
+            }
+
+            List<PaneChanges> merged = new ArrayList<>(queued);
+            merged.addAll(added);
+            return merged;
+        });
+
+        if (REFRESH_QUEUED.compareAndSet(false, true)) {
+            UtilForgeConcurrency.runSync(ForgeGuiTracker::refreshQueued, SyncPriority.PLAYER);
+        }
+    }
+
+    private static void refreshQueued() {
+        REFRESH_QUEUED.set(false);
+
+        for (var gui : REQUIRED_REFRESH.keySet()) {
+            var changes = REQUIRED_REFRESH.remove(gui);
+
+            if (changes == null) {
+                continue;
+            }
+
+            try {
+                for (var change : changes) {
+                    change.apply();
+                }
+
+                gui.refresh();
+            } catch (Exception e) {
+                UtilLogger.getLogger().error("Error when ticking GUI", e);
+            }
+        }
+    }
 }
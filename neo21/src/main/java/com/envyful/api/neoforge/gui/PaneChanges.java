@@ -0,0 +1,76 @@
+package com.envyful.api.neoforge.gui;
+
+import com.envyful.api.neoforge.gui.pane.ForgeSimplePane;
+import com.envyful.api.gui.item.Displayable;
+import com.envyful.api.gui.pane.Pane;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ *
+ * A {@link Pane} handed to async tick handlers that records the changes they make instead of changing the real
+ * pane off the main thread. The changes are applied to the real pane, in order, when the GUI is next refreshed
+ * <br>
+ * Reads go to the real pane, so they don't see changes made earlier in the same handler
+ *
+ */
+final class PaneChanges implements Pane {
+
+    private final ForgeSimplePane pane;
+    private final List<Consumer<Pane>> changes = new ArrayList<>();
+
+    PaneChanges(ForgeSimplePane pane) {
+        this.pane = pane;
+    }
+
+    @Override
+    public void add(Displayable displayable) {
+        this.changes.add(pane -> pane.add(displayable));
+    }
+
+    @Override
+    public void set(int posX, int posY, Displayable displayable) {
+        this.changes.add(pane -> pane.set(posX, posY, displayable));
+    }
+
+    @Override
+    public void set(int pos, Displayable displayable) {
+        this.changes.add(pane -> pane.set(pos, displayable));
+    }
+
+    @Nullable
+    @Override
+    public Displayable get(int pos) {
+        return this.pane.get(pos);
+    }
+
+    @Nullable
+    @Override
+    public Displayable get(int posX, int posY) {
+        return this.pane.get(posX, posY);
+    }
+
+    @Override
+    public void fill(Displayable displayable) {
+        this.changes.add(pane -> pane.fill(displayable));
+    }
+
+    @Override
+    public void clear() {
+        this.changes.add(Pane::clear);
+    }
+
+    /**
+     *
+     * Applies the recorded changes to the real pane. Must be called on the main thread
+     *
+     */
+    void apply() {
+        for (Consumer<Pane> change : this.changes) {
+            change.accept(this.pane);
+        }
+    }
+}
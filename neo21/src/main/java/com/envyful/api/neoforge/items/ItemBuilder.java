@@ -298,13 +298,8 @@ public class ItemBuilder implements Cloneable {
             itemStack.set(DataComponents.CUSTOM_DATA, CustomData.of(compound));
         }
 
-        if (this.name != null && !this.name.getString().isEmpty()) {
-            itemStack.set(DataComponents.CUSTOM_NAME, this.name);
-        }
-
-        if (this.lore != null && !this.lore.isEmpty()) {
-            itemStack.set(DataComponents.LORE, new ItemLore(this.lore, this.lore));
-        }
+        applyName(itemStack, this.name);
+        applyLore(itemStack, this.lore);
 
         if (this.unbreakable) {
             itemStack.set(DataComponents.UNBREAKABLE, new Unbreakable(true));
@@ -323,6 +318,32 @@ public class ItemBuilder implements Cloneable {
         return itemStack;
     }
 
+    /**
+     *
+     * Sets the custom name of the item stack in the same way as {@link #build()}
+     *
+     * @param itemStack The item stack
+     * @param name The name, ignored if null or empty
+     */
+    public static void applyName(ItemStack itemStack, Component name) {
+        if (name != null && !name.getString().isEmpty()) {
+            itemStack.set(DataComponents.CUSTOM_NAME, name);
+        }
+    }
+
+    /**
+     *
+     * Sets the lore of the item stack in the same way as {@link #build()}
+     *
+     * @param itemStack The item stack
+     * @param lore The lore, ignored if null or empty
+     */
+    public static void applyLore(ItemStack itemStack, List<Component> lore) {
+        if (lore != null && !lore.isEmpty()) {
+            itemStack.set(DataComponents.LORE, new ItemLore(lore, lore));
+        }
+    }
+
     /**
      *
      * Method to create a copy of the ItemBuilder in a new instance
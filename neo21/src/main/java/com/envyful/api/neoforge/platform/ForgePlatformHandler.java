@@ -1,9 +1,13 @@
 package com.envyful.api.neoforge.platform;
 
 import com.envyful.api.concurrency.UtilLogger;
+import com.envyful.api.concurrency.tick.SyncPriority;
+import com.envyful.api.concurrency.tick.SyncTaskQueue;
 import com.envyful.api.config.ConfigToast;
 import com.envyful.api.config.type.ConfigItem;
 import com.envyful.api.neoforge.InitializationTask;
+import com.envyful.api.neoforge.concurrency.UtilForgeConcurrency;
+import com.envyful.api.neoforge.concurrency.UtilVirtualThreads;
 import com.envyful.api.neoforge.config.yaml.YamlOps;
 import com.envyful.api.neoforge.player.util.UtilPlayer;
 import com.envyful.api.neoforge.player.util.UtilToast;
@@ -43,6 +47,8 @@ public class ForgePlatformHandler extends StandardPlatformHandler<CommandSource>
     private static final ForgePlatformHandler INSTANCE = new ForgePlatformHandler();
 
     protected ForgePlatformHandler() {
+        UtilVirtualThreads.enableIfConfigured();
+
         ModList.get().getAllScanData().stream()
                 .map(ModFileScanData::getClasses)
                 .flatMap(Collection::stream)
@@ -127,7 +133,30 @@ public class ForgePlatformHandler extends StandardPlatformHandler<CommandSource>
 
     @Override
     public void runSync(Runnable runnable) {
-        ServerLifecycleHooks.getCurrentServer().execute(runnable);
+        this.runSync(runnable, SyncPriority.PLAYER);
+    }
+
+    @Override
+    public void runSync(Runnable runnable, SyncPriority priority) {
+        var server = ServerLifecycleHooks.getCurrentServer();
+
+        if (server.isSameThread()) {
+            runnable.run();
+            return;
+        }
+
+        // The tick budget is only drained while the server ticks, so let the server run it during shutdown
+        if (!server.isRunning()) {
+            server.execute(runnable);
+            return;
+        }
+
+        UtilForgeConcurrency.runSync(runnable, priority);
+    }
+
+    @Override
+    public SyncTaskQueue getSyncTaskQueue() {
+        return UtilForgeConcurrency.getSyncTaskQueue();
     }
 
     @Override
@@ -157,7 +186,7 @@ public class ForgePlatformHandler extends StandardPlatformHandler<CommandSource>
                     server.getCommands().performPrefixedCommand(commandSourceStack, handlePlaceholder);
                 }
             }
-        });
+        }, SyncPriority.BACKGROUND);
     }
 
     @Override
@@ -19,6 +19,7 @@ import net.neoforged.neoforge.event.server.ServerStoppingEvent;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
@@ -115,5 +116,14 @@ public class ForgePlayerManager extends AbstractPlayerManager<ForgeEnvyPlayer, S
                 player.setParent((ServerPlayer) event.getEntity());
             }, 5L);
         }
+
+        @SubscribeEvent(priority = EventPriority.HIGHEST)
+        public void onServerStopping(ServerStoppingEvent event) {
+            shutdownSaveQueue(30, TimeUnit.SECONDS);
+
+            if (ForgePlayerManager.this.nameStore != null) {
+                ForgePlayerManager.this.nameStore.shutdown();
+            }
+        }
     }
 }
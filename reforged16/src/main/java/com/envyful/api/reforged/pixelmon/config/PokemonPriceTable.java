@@ -0,0 +1,189 @@
+package com.envyful.api.reforged.pixelmon.config;
+
+import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
+import com.pixelmonmod.pixelmon.api.registries.PixelmonSpecies;
+import net.minecraft.entity.player.ServerPlayerEntity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ *
+ * A set of {@link PokeSpecPricing} modifiers compiled for pricing many Pokemon. The modifiers are sorted once
+ * and grouped by the species their spec requires, so only the modifiers that could apply to a Pokemon have
+ * their spec matched against it
+ * <br>
+ * Specs are matched every time a Pokemon is priced, so changes to a Pokemon are always reflected in its price
+ *
+ */
+public class PokemonPriceTable {
+
+    private final PokeSpecPricing[] modifiers;
+    private final int[] anySpecies;
+    private final Map<String, int[]> bySpecies;
+
+    protected PokemonPriceTable(List<PokeSpecPricing> modifiers) {
+        List<PokeSpecPricing> sorted = new ArrayList<>(modifiers);
+        sorted.sort(PokeSpecPricing::compareTo);
+
+        this.modifiers = sorted.toArray(new PokeSpecPricing[0]);
+
+        List<Integer> anySpecies = new ArrayList<>();
+        Map<String, List<Integer>> bySpecies = new HashMap<>();
+
+        for (int i = 0; i < this.modifiers.length; i++) {
+            var species = getRequiredSpecies(this.modifiers[i]);
+
+            if (species == null) {
+                anySpecies.add(i);
+            } else {
+                bySpecies.computeIfAbsent(species, key -> new ArrayList<>()).add(i);
+            }
+        }
+
+        this.anySpecies = toArray(anySpecies);
+        this.bySpecies = new HashMap<>();
+
+        for (var entry : bySpecies.entrySet()) {
+            this.bySpecies.put(entry.getKey(), merge(this.anySpecies, toArray(entry.getValue())));
+        }
+    }
+
+    /**
+     *
+     * Compiles the modifiers. The list is copied so later changes to it are not seen by the table
+     *
+     * @param modifiers The modifiers
+     * @return The table
+     */
+    public static PokemonPriceTable of(List<PokeSpecPricing> modifiers) {
+        return new PokemonPriceTable(modifiers);
+    }
+
+    /**
+     *
+     * Applies every modifier matching the Pokemon to the default price, in the same order as
+     * {@link UtilPokemonPrice#getMinPrice(Pokemon, double, List)}
+     *
+     * @param pokemon The Pokemon
+     * @param defaultPrice The price before any modifiers
+     * @return The minimum price
+     */
+    public double getMinPrice(Pokemon pokemon, double defaultPrice) {
+        var currentPrice = defaultPrice;
+
+        for (var index : this.getCandidates(pokemon)) {
+            var modifier = this.modifiers[index];
+
+            if (modifier.getSpec().matches(pokemon)) {
+                currentPrice = modifier.apply(currentPrice);
+            }
+        }
+
+        return currentPrice;
+    }
+
+    /**
+     *
+     * Applies every modifier matching the Pokemon that the player has permission for to the default price
+     *
+     * @param player The player
+     * @param pokemon The Pokemon
+     * @param defaultPrice The price before any modifiers
+     * @return The minimum price
+     */
+    public double getMinPricePermissible(ServerPlayerEntity player, Pokemon pokemon, double defaultPrice) {
+        var currentPrice = defaultPrice;
+
+        for (var index : this.getCandidates(pokemon)) {
+            var modifier = this.modifiers[index];
+
+            if (modifier.getSpec().matches(pokemon) && modifier.hasPermission(player)) {
+                currentPrice = modifier.apply(currentPrice);
+            }
+        }
+
+        return currentPrice;
+    }
+
+    private int[] getCandidates(Pokemon pokemon) {
+        return this.bySpecies.getOrDefault(getKey(pokemon.getSpecies().getName()), this.anySpecies);
+    }
+
+    private static String getRequiredSpecies(PokeSpecPricing modifier) {
+        var spec = modifier.getSpecString();
+
+        if (spec == null || spec.isBlank()) {
+            return null;
+        }
+
+        var args = spec.trim().split("\\s+");
+        String species = null;
+
+        for (int i = 0; i < args.length; i++) {
+            String name;
+
+            if (args[i].toLowerCase(Locale.ROOT).startsWith("species:")) {
+                name = args[i].substring("species:".length());
+            } else if (i == 0 && args[i].indexOf(':') == -1 && !args[i].startsWith("!")) {
+                name = args[i];
+            } else {
+                continue;
+            }
+
+            if (name.isEmpty() || !Character.isLetter(name.charAt(0))) {
+                return null;
+            }
+
+            var found = PixelmonSpecies.fromNameOrDex(name).orElse(null);
+
+            if (found == null) {
+                if (i == 0) {
+                    continue;
+                }
+
+                return null;
+            }
+
+            if (species != null && !species.equals(getKey(found.getName()))) {
+                return null;
+            }
+
+            species = getKey(found.getName());
+        }
+
+        return species;
+    }
+
+    private static String getKey(String speciesName) {
+        return speciesName.toLowerCase(Locale.ROOT);
+    }
+
+    private static int[] toArray(List<Integer> indexes) {
+        return indexes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] merge(int[] first, int[] second) {
+        var merged = new int[first.length + second.length];
+        var i = 0;
+        var j = 0;
+        var k = 0;
+
+        while (i < first.length && j < second.length) {
+            merged[k++] = first[i] < second[j] ? first[i++] : second[j++];
+        }
+
+        while (i < first.length) {
+            merged[k++] = first[i++];
+        }
+
+        while (j < second.length) {
+            merged[k++] = second[j++];
+        }
+
+        return merged;
+    }
+}
@@ -5,7 +5,8 @@ import com.envyful.api.platform.PlatformProxy;
 import com.envyful.api.reforged.pixelmon.sprite.SpriteBuilder;
 import com.envyful.api.reforged.pixelmon.sprite.UtilSprite;
 import com.envyful.api.text.Placeholder;
-import com.envyful.api.text.PlaceholderFactory;
+import com.envyful.api.text.placeholder.IndexedPlaceholder;
+import com.envyful.api.type.cache.ExpiringCache;
 import com.google.common.collect.Lists;
 import com.pixelmonmod.api.Flags;
 import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
@@ -24,6 +25,7 @@ import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  *
@@ -35,6 +37,27 @@ public class SpriteConfig {
 
     public static final SpriteConfig DEFAULT = new SpriteConfig();
 
+    private static final String[] EGG_TOKENS = {"%egg_cycles%", "%egg_steps%", "%egg_description%"};
+
+    private static final String[] POKEMON_TOKENS = {
+            "%species_name%", "%nickname%", "%held_item%", "%type%", "%palette%", "%level%", "%gender%", "%breedable%",
+            "%nature%", "%ability_name%", "%ability_ha%", "%friendship%", "%untradeable%", "%iv_percentage%",
+            "%iv_hp%", "%iv_attack%", "%iv_defence%", "%iv_spattack%", "%iv_spdefence%", "%iv_speed%",
+            "%ev_hp%", "%ev_attack%", "%ev_defence%", "%ev_spattack%", "%ev_spdefence%", "%ev_speed%",
+            "%move_1%", "%move_2%", "%move_3%", "%move_4%", "%shiny%", "%form%", "%size%", "%gmaxfactor%",
+            "%original_trainer%", "%mew_cloned%", "%cloned%", "%trio_gemmed%", "%gemmed%"
+    };
+
+    private static final BattleStatsType[] IV_STATS = {
+            BattleStatsType.HP, BattleStatsType.ATTACK, BattleStatsType.DEFENSE,
+            BattleStatsType.SPECIAL_ATTACK, BattleStatsType.SPECIAL_DEFENSE, BattleStatsType.SPEED
+    };
+
+    private static final ExpiringCache<String, SpeciesInfo> SPECIES_INFO = ExpiringCache.<String, SpeciesInfo>builder()
+            .maximumSize(4096)
+            .expireAfterAccess(30, TimeUnit.MINUTES)
+            .build();
+
     private String name = "&b%species_name% %nickname%";
     private String eggName = "Egg";
 
@@ -106,7 +129,7 @@ public class SpriteConfig {
         var allPlaceholders = new ArrayList<>(Arrays.asList(additionalPlaceholders));
         allPlaceholders.add(placeholders);
 
-        List<ITextComponent> lore = PlaceholderFactory.handlePlaceholders(this.lore, PlatformProxy::parse, allPlaceholders.toArray(new Placeholder[0]));
+        List<ITextComponent> lore = PlatformProxy.parse(this.lore, allPlaceholders.toArray(new Placeholder[0]));
 
         UtilItemStack.setLore(itemStack, lore);
         UtilItemStack.setName(itemStack, PlatformProxy.flatParse(this.name, placeholders));
@@ -131,115 +154,101 @@ public class SpriteConfig {
 
     protected List<ITextComponent> getLore(Pokemon pokemon, Placeholder... placeholders) {
         if (pokemon.isEgg()) {
-            return PlaceholderFactory.handlePlaceholders(this.eggLore, PlatformProxy::parse, placeholders);
+            return PlatformProxy.parse(this.eggLore, placeholders);
         }
 
-        return PlaceholderFactory.handlePlaceholders(this.lore, PlatformProxy::parse, placeholders);
+        return PlatformProxy.parse(this.lore, placeholders);
     }
 
     public Placeholder getPokemonPlaceholders(Species species, Stats form, Gender gender, PaletteProperties palette, Placeholder... additionalPlaceholders) {
+        var speciesInfo = getSpeciesInfo(species, form, palette);
         List<Placeholder> placeholders = new ArrayList<>(Arrays.asList(additionalPlaceholders));
-        placeholders.add(Placeholder.simple("%species_name%", species.getLocalizedName()));
-        placeholders.add(Placeholder.simple("%form%", form.getLocalizedName()));
+        placeholders.add(Placeholder.simple("%species_name%", speciesInfo.speciesName));
+        placeholders.add(Placeholder.simple("%form%", speciesInfo.formName));
         placeholders.add(Placeholder.simple("%shiny%", palette.getName().equals("shiny") ? this.shinyTrueFormat : this.shinyFalseFormat));
-        placeholders.add(Placeholder.simple("%palette%", palette.getLocalizedName()));
+        placeholders.add(Placeholder.simple("%palette%", speciesInfo.paletteName));
         placeholders.add(this.getGenderPlaceholder(gender));
         return Placeholder.composition(placeholders);
     }
 
     public Placeholder getPokemonPlaceholders(Pokemon pokemon, Placeholder... otherPlaceholders) {
-        var iVs = pokemon.getIVs();
-        var ivHP = iVs.getStat(BattleStatsType.HP);
-        var ivAtk = iVs.getStat(BattleStatsType.ATTACK);
-        var ivDef = iVs.getStat(BattleStatsType.DEFENSE);
-        var ivSpeed = iVs.getStat(BattleStatsType.SPEED);
-        var ivSAtk = iVs.getStat(BattleStatsType.SPECIAL_ATTACK);
-        var ivSDef = iVs.getStat(BattleStatsType.SPECIAL_DEFENSE);
-        var percentage = Math.round(((ivHP + ivDef + ivAtk + ivSpeed + ivSAtk + ivSDef) / 186f) * 100);
-        var evHP = pokemon.getEVs().getStat(BattleStatsType.HP);
-        var evAtk = pokemon.getEVs().getStat(BattleStatsType.ATTACK);
-        var evDef = pokemon.getEVs().getStat(BattleStatsType.DEFENSE);
-        var evSpeed = pokemon.getEVs().getStat(BattleStatsType.SPEED);
-        var evSAtk = pokemon.getEVs().getStat(BattleStatsType.SPECIAL_ATTACK);
-        var evSDef = pokemon.getEVs().getStat(BattleStatsType.SPECIAL_DEFENSE);
-        var extraStats = pokemon.getExtraStats();
-
         List<Placeholder> placeholders = new ArrayList<>(Arrays.asList(otherPlaceholders));
 
         if (pokemon.isEgg()) {
-            placeholders.add(Placeholder.simple("%egg_cycles%", pokemon.getEggCycles()));
-            placeholders.add(Placeholder.simple("%egg_steps%", pokemon.getEggSteps()));
-            placeholders.add(Placeholder.simple("%egg_description%", pokemon.getEggDescription()));
+            placeholders.add(IndexedPlaceholder.of(EGG_TOKENS, new String[] {
+                    String.valueOf(pokemon.getEggCycles()),
+                    String.valueOf(pokemon.getEggSteps()),
+                    pokemon.getEggDescription()
+            }));
             return Placeholder.composition(placeholders);
         }
 
-        placeholders.add(Placeholder.simple("%species_name%", pokemon.getSpecies().getLocalizedName()));
-        placeholders.add(Placeholder.simple("%nickname%", pokemon.getDisplayName()));
-        placeholders.add(Placeholder.simple("%held_item%", pokemon.getHeldItem().getHoverName().getString()));
-        placeholders.add(Placeholder.simple("%type%", getType(pokemon)));
-        placeholders.add(Placeholder.simple("%palette%", pokemon.getPalette().getLocalizedName()));
-        placeholders.add(Placeholder.simple("%level%", pokemon.getPokemonLevel()));
-        placeholders.add(this.getGenderPlaceholder(pokemon));
-        placeholders.add(Placeholder.simple("%breedable%", !pokemon.hasFlag(Flags.UNBREEDABLE) ? this.breedableTrueFormat : this.breedableFalseFormat));
-        placeholders.add(Placeholder.simple("%nature%", this.natureFormat.replace("%nature_name%",
+        var iVs = pokemon.getIVs();
+        var eVs = pokemon.getEVs();
+        var extraStats = pokemon.getExtraStats();
+        var speciesInfo = getSpeciesInfo(pokemon.getSpecies(), pokemon.getForm(), pokemon.getPalette());
+        var ivTotal = 0;
+
+        for (var stat : IV_STATS) {
+            ivTotal += iVs.getStat(stat);
+        }
+
+        var values = new String[POKEMON_TOKENS.length];
+        var i = 0;
+
+        values[i++] = speciesInfo.speciesName;
+        values[i++] = pokemon.getDisplayName();
+        values[i++] = pokemon.getHeldItem().getHoverName().getString();
+        values[i++] = speciesInfo.types;
+        values[i++] = speciesInfo.paletteName;
+        values[i++] = String.valueOf(pokemon.getPokemonLevel());
+        values[i++] = this.getGender(pokemon.getGender());
+        values[i++] = !pokemon.hasFlag(Flags.UNBREEDABLE) ? this.breedableTrueFormat : this.breedableFalseFormat;
+        values[i++] = this.natureFormat.replace("%nature_name%",
                         pokemon.getMintNature() != null ?
                                 pokemon.getBaseNature().getLocalizedName() :
                                 pokemon.getNature().getLocalizedName())
                 .replace("%mint_nature%", pokemon.getMintNature() != null ?
-                        this.mintNatureFormat.replace("%mint_nature_name%", pokemon.getMintNature().getLocalizedName()) : "")));
-        placeholders.add(Placeholder.simple("%ability_name%", pokemon.getAbility().getLocalizedName()));
-        placeholders.add(Placeholder.simple("%ability_ha%", pokemon.hasHiddenAbility() ? this.haFormat : this.notHaFormat));
-        placeholders.add(Placeholder.simple("%friendship%", pokemon.getFriendship()));
-        placeholders.add(Placeholder.simple("%untradeable%", pokemon.isUntradeable() ? this.untradeableTrueFormat : this.untradeableFalseFormat));
-        placeholders.add(Placeholder.simple("%iv_percentage%", percentage));
-        placeholders.add(Placeholder.simple("%iv_hp%", getColour(iVs, BattleStatsType.HP) + ivHP));
-        placeholders.add(Placeholder.simple("%iv_attack%", getColour(iVs, BattleStatsType.ATTACK) + ivAtk));
-        placeholders.add(Placeholder.simple("%iv_defence%", getColour(iVs, BattleStatsType.DEFENSE) + ivDef));
-        placeholders.add(Placeholder.simple("%iv_spattack%", getColour(iVs, BattleStatsType.SPECIAL_ATTACK) + ivSAtk));
-        placeholders.add(Placeholder.simple("%iv_spdefence%", getColour(iVs, BattleStatsType.SPECIAL_DEFENSE) + ivSDef));
-        placeholders.add(Placeholder.simple("%iv_speed%", getColour(iVs, BattleStatsType.SPEED) + ivSpeed));
-        placeholders.add(Placeholder.simple("%ev_hp%", evHP));
-        placeholders.add(Placeholder.simple("%ev_attack%", evAtk));
-        placeholders.add(Placeholder.simple("%ev_defence%", evDef));
-        placeholders.add(Placeholder.simple("%ev_spattack%", evSAtk));
-        placeholders.add(Placeholder.simple("%ev_spdefence%", evSDef));
-        placeholders.add(Placeholder.simple("%ev_speed%", evSpeed));
-        placeholders.add(getMovePlaceholder(pokemon, 0));
-        placeholders.add(getMovePlaceholder(pokemon, 1));
-        placeholders.add(getMovePlaceholder(pokemon, 2));
-        placeholders.add(getMovePlaceholder(pokemon, 3));
-        placeholders.add(Placeholder.simple("%shiny%", pokemon.isShiny() ? this.shinyTrueFormat : this.shinyFalseFormat));
-        placeholders.add(Placeholder.simple("%form%", pokemon.getForm().getLocalizedName()));
-        placeholders.add(Placeholder.simple("%size%", pokemon.getGrowth().getLocalizedName()));
-        placeholders.add(Placeholder.simple("%friendship%", pokemon.getFriendship() + ""));
-        placeholders.add(Placeholder.simple("%gmaxfactor%", pokemon.hasGigantamaxFactor() ? this.gmaxFactorTrueFormat : this.gmaxFactorFalseFormat));
-        placeholders.add(
-                Placeholder.require(() -> pokemon.getOriginalTrainer() != null)
-                        .placeholder(Placeholder.simple("%original_trainer%", pokemon.getOriginalTrainer()))
-                        .elsePlaceholder(Placeholder.empty("%original_trainer%"))
-                        .build()
-        );
-
-        placeholders.add(
-                Placeholder.require(() -> extraStats instanceof MewStats)
-                        .placeholder(Placeholder.simple(s -> s
-                                .replace("%mew_cloned%", this.mewClonedFormat)
-                                .replace("%cloned%", ((MewStats) extraStats).numCloned + ""))
-                        )
-                        .elsePlaceholder(Placeholder.composition(Placeholder.empty("%mew_cloned%"), Placeholder.empty("%cloned%")))
-                        .build()
-        );
-
-        placeholders.add(
-                Placeholder.require(() -> extraStats instanceof LakeTrioStats)
-                        .placeholder(Placeholder.simple(s -> s
-                                .replace("%trio_gemmed%", this.gemmedFormat)
-                                .replace("%gemmed%", ((LakeTrioStats) extraStats).numEnchanted + ""))
-                        )
-                        .elsePlaceholder(Placeholder.composition(Placeholder.empty("%trio_gemmed%"), Placeholder.empty("%gemmed%")))
-                        .build()
-        );
+                        this.mintNatureFormat.replace("%mint_nature_name%", pokemon.getMintNature().getLocalizedName()) : "");
+        values[i++] = pokemon.getAbility().getLocalizedName();
+        values[i++] = pokemon.hasHiddenAbility() ? this.haFormat : this.notHaFormat;
+        values[i++] = String.valueOf(pokemon.getFriendship());
+        values[i++] = pokemon.isUntradeable() ? this.untradeableTrueFormat : this.untradeableFalseFormat;
+        values[i++] = String.valueOf(Math.round((ivTotal / 186f) * 100));
+
+        for (var stat : IV_STATS) {
+            values[i++] = this.getColour(iVs, stat) + iVs.getStat(stat);
+        }
+
+        for (var stat : IV_STATS) {
+            values[i++] = String.valueOf(eVs.getStat(stat));
+        }
+
+        for (int pos = 0; pos < 4; pos++) {
+            values[i++] = this.getMoveValue(pokemon, pos);
+        }
+
+        values[i++] = pokemon.isShiny() ? this.shinyTrueFormat : this.shinyFalseFormat;
+        values[i++] = speciesInfo.formName;
+        values[i++] = pokemon.getGrowth().getLocalizedName();
+        values[i++] = pokemon.hasGigantamaxFactor() ? this.gmaxFactorTrueFormat : this.gmaxFactorFalseFormat;
+        values[i++] = pokemon.getOriginalTrainer();
 
+        if (extraStats instanceof MewStats) {
+            var cloned = String.valueOf(((MewStats) extraStats).numCloned);
+            values[i++] = this.mewClonedFormat.replace("%cloned%", cloned);
+            values[i++] = cloned;
+        } else {
+            i += 2;
+        }
+
+        if (extraStats instanceof LakeTrioStats) {
+            var gemmed = String.valueOf(((LakeTrioStats) extraStats).numEnchanted);
+            values[i++] = this.gemmedFormat.replace("%gemmed%", gemmed);
+            values[i] = gemmed;
+        }
+
+        placeholders.add(IndexedPlaceholder.of(POKEMON_TOKENS, values));
         return Placeholder.composition(placeholders);
     }
 
@@ -252,30 +261,41 @@ public class SpriteConfig {
     }
 
     public Placeholder getGenderPlaceholder(Gender gender) {
-        if (gender == null) {
+        var value = this.getGender(gender);
+
+        if (value == null) {
             return Placeholder.empty("%gender%");
         }
 
+        return Placeholder.simple("%gender%", value);
+    }
+
+    private String getGender(Gender gender) {
+        if (gender == null) {
+            return null;
+        }
+
         if (gender == Gender.MALE) {
-            return Placeholder.simple("%gender%", this.maleFormat);
+            return this.maleFormat;
         }
 
         if (gender == Gender.FEMALE) {
-            return Placeholder.simple("%gender%", this.femaleFormat);
+            return this.femaleFormat;
         }
 
-        return Placeholder.simple("%gender%", this.noneFormat);
+        return this.noneFormat;
     }
 
-    private String getType(Pokemon pokemon) {
-        var types = pokemon.getForm().getTypes();
-        var typeInfo = new StringBuilder();
+    private static SpeciesInfo getSpeciesInfo(Species species, Stats form, PaletteProperties palette) {
+        return SPECIES_INFO.get(species.getName() + ":" + form.getName() + ":" + palette.getName(), key -> {
+            var typeInfo = new StringBuilder();
 
-        for (var type : types) {
-            typeInfo.append(type.getLocalizedName()).append(" ");
-        }
+            for (var type : form.getTypes()) {
+                typeInfo.append(type.getLocalizedName()).append(" ");
+            }
 
-        return typeInfo.toString();
+            return new SpeciesInfo(species.getLocalizedName(), form.getLocalizedName(), palette.getLocalizedName(), typeInfo.toString());
+        });
     }
 
     private String getColour(IVStore ivStore, BattleStatsType statsType) {
@@ -286,36 +306,29 @@ public class SpriteConfig {
         return this.normalIvColour;
     }
 
-    private String getMove(Pokemon pokemon, int pos) {
-        if (pokemon.getMoveset() == null) {
-            return "";
-        }
-
-        if (pokemon.getMoveset().attacks.length <= pos) {
-            return "";
-        }
+    private String getMoveValue(Pokemon pokemon, int pos) {
+        var moveset = pokemon.getMoveset();
 
-        if (pokemon.getMoveset().attacks[pos] == null) {
-            return "";
+        if (moveset == null || moveset.attacks.length <= pos || moveset.attacks[pos] == null) {
+            return this.removeEmptyMoveSlots ? null : this.emptyMoveSlot;
         }
 
-        return pokemon.getMoveset().attacks[pos].getActualMove().getLocalizedName();
+        return moveset.attacks[pos].getActualMove().getLocalizedName();
     }
 
-    private Placeholder getMovePlaceholder(Pokemon pokemon, int pos) {
-        return Placeholder.require(() -> {
-                    if (pokemon.getMoveset() == null) {
-                        return false;
-                    }
+    private static class SpeciesInfo {
 
-                    if (pokemon.getMoveset().attacks.length <= pos) {
-                        return false;
-                    }
+        private final String speciesName;
+        private final String formName;
+        private final String paletteName;
+        private final String types;
 
-                    return pokemon.getMoveset().attacks[pos] != null;
-                }).placeholder(Placeholder.simple("%move_" + (pos + 1) + "%", getMove(pokemon, pos)))
-                .elsePlaceholder(this.removeEmptyMoveSlots ? Placeholder.empty("%move_" + (pos + 1) + "%") : Placeholder.simple("%move_" + (pos + 1) + "%", this.emptyMoveSlot))
-                .build();
+        private SpeciesInfo(String speciesName, String formName, String paletteName, String types) {
+            this.speciesName = speciesName;
+            this.formName = formName;
+            this.paletteName = paletteName;
+            this.types = types;
+        }
     }
 
     public static Builder builder() {
@@ -39,4 +39,13 @@ public class UtilPokemonPrice {
 
         return currentPrice;
     }
+
+    public static double getMinPricePermissible(ServerPlayerEntity player, Pokemon pokemon, double defaultPrice,
+                                                PokemonPriceTable modifiers) {
+        return modifiers.getMinPricePermissible(player, pokemon, defaultPrice);
+    }
+
+    public static double getMinPrice(Pokemon pokemon, double defaultPrice, PokemonPriceTable modifiers) {
+        return modifiers.getMinPrice(pokemon, defaultPrice);
+    }
 }
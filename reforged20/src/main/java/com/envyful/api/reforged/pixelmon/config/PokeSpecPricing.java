@@ -27,6 +27,10 @@ public class PokeSpecPricing implements Comparable<PokeSpecPricing> {
     public PokeSpecPricing() {
     }
 
+    public String getSpecString() {
+        return this.spec;
+    }
+
     public Specification<?, ?> getSpec() {
         if (this.cachedSpec == null) {
             this.cachedSpec = PokemonSpecificationProxy.create(this.spec).get();
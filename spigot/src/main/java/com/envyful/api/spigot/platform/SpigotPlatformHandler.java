@@ -1,5 +1,7 @@
 package com.envyful.api.spigot.platform;
 
+import com.envyful.api.concurrency.tick.SyncPriority;
+import com.envyful.api.concurrency.tick.SyncTaskQueue;
 import com.envyful.api.config.ConfigToast;
 import com.envyful.api.config.type.ConfigItem;
 import com.envyful.api.platform.PlatformHandler;
@@ -15,10 +17,13 @@ import org.bukkit.plugin.Plugin;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class SpigotPlatformHandler extends StandardPlatformHandler<Audience> {
 
     protected final Plugin plugin;
+    protected final SyncTaskQueue syncQueue = SyncTaskQueue.builder().build();
+    protected final AtomicBoolean syncQueueStarted = new AtomicBoolean();
 
     private SpigotPlatformHandler(Plugin plugin) {
         this.plugin = plugin;
@@ -63,12 +68,39 @@ public class SpigotPlatformHandler extends StandardPlatformHandler<Audience> {
 
     @Override
     public void runSync(Runnable runnable) {
+        this.runSync(runnable, SyncPriority.PLAYER);
+    }
+
+    @Override
+    public void runSync(Runnable runnable, SyncPriority priority) {
         if (Bukkit.getServer().isPrimaryThread()) {
             runnable.run();
             return;
         }
 
-        Bukkit.getScheduler().runTask(this.plugin, runnable);
+        if (!this.plugin.isEnabled() || Bukkit.isStopping()) {
+            // Bukkit cancels the drain timer when the plugin is disabled, so queued tasks would never run
+            this.syncQueueStarted.set(false);
+
+            if (this.plugin.isEnabled()) {
+                Bukkit.getScheduler().runTask(this.plugin, runnable);
+            } else {
+                runnable.run();
+            }
+
+            return;
+        }
+
+        if (this.syncQueueStarted.compareAndSet(false, true)) {
+            Bukkit.getScheduler().runTaskTimer(this.plugin, this.syncQueue::drain, 0L, 1L);
+        }
+
+        this.syncQueue.submit(runnable, priority);
+    }
+
+    @Override
+    public SyncTaskQueue getSyncTaskQueue() {
+        return this.syncQueue;
     }
 
     @Override
@@ -24,6 +24,7 @@ import org.bukkit.plugin.Plugin;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
@@ -133,5 +134,14 @@ public class SpigotPlayerManager extends AbstractPlayerManager<SpigotEnvyPlayer,
                 player.setParent(event.getPlayer());
             }, 5L);
         }
+
+        @EventHandler(priority = EventPriority.LOWEST)
+        public void onServerStopping(ServerShutdownEvent event) {
+            shutdownSaveQueue(30, TimeUnit.SECONDS);
+
+            if (SpigotPlayerManager.this.nameStore != null) {
+                SpigotPlayerManager.this.nameStore.shutdown();
+            }
+        }
     }
 }
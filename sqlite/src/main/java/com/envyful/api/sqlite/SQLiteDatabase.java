@@ -42,6 +42,23 @@ public class SQLiteDatabase implements Database {
         return this.connection;
     }
 
+    @Override
+    public String getUpsertSQL(String table, String keyColumn, String... columns) {
+        var sql = new StringBuilder("INSERT INTO `").append(table).append("` (").append(keyColumn);
+
+        for (var column : columns) {
+            sql.append(", ").append(column);
+        }
+
+        sql.append(") VALUES (?").append(", ?".repeat(columns.length)).append(") ON CONFLICT(").append(keyColumn).append(") DO UPDATE SET ");
+
+        for (int i = 0; i < columns.length; i++) {
+            sql.append(i == 0 ? "" : ", ").append(columns[i]).append(" = excluded.").append(columns[i]);
+        }
+
+        return sql.append(";").toString();
+    }
+
     @Override
     public void close() {
         try {
@@ -10,6 +10,7 @@ import com.velocitypowered.api.event.PostOrder;
 import com.velocitypowered.api.event.Subscribe;
 import com.velocitypowered.api.event.connection.DisconnectEvent;
 import com.velocitypowered.api.event.connection.LoginEvent;
+import com.velocitypowered.api.event.proxy.ProxyShutdownEvent;
 import com.velocitypowered.api.proxy.Player;
 import com.velocitypowered.api.proxy.ProxyServer;
 
@@ -91,5 +92,12 @@ public class VelocityPlayerManager extends AbstractPlayerManager<VelocityEnvyPla
                     .delay(4, TimeUnit.SECONDS)
                     .schedule();
         }
+
+        @Subscribe(order = PostOrder.LAST)
+        public void onProxyShutdown(ProxyShutdownEvent event) {
+            if (VelocityPlayerManager.this.nameStore != null) {
+                VelocityPlayerManager.this.nameStore.shutdown();
+            }
+        }
     }
 }